@@ -0,0 +1,96 @@
+package functions;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторные ядра пакетных вычислений на Vector API ({@code jdk.incubator.vector}).
+ * Загружается через рефлексию классом {@link BatchKernels}; компилируется и запускается
+ * с флагом {@code --add-modules jdk.incubator.vector}. Элементы, не поместившиеся в целый
+ * вектор, обрабатываются скалярными ядрами родительского класса.
+ */
+final class VectorBatchKernels extends ScalarBatchKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // Векторизовать ли sin, cos, tan и e^x: в JDK 17 эти операции Vector API медленнее скалярных Math.
+    private final boolean trigonometryAndExp;
+
+    VectorBatchKernels(boolean trigonometryAndExp) {
+        // При одной полосе вектора выигрыша нет: остаются скалярные ядра.
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("Векторные регистры вмещают только одно значение double");
+        }
+        this.trigonometryAndExp = trigonometryAndExp;
+    }
+
+    @Override
+    String name() {
+        return String.format("vector (%d x double%s)", SPECIES.length(), trigonometryAndExp ? ", all" : "");
+    }
+
+    @Override
+    void sin(double[] x, double[] result, int from, int to) {
+        super.sin(x, result, trigonometryAndExp ? lanewise(VectorOperators.SIN, x, result, from, to) : from, to);
+    }
+
+    @Override
+    void cos(double[] x, double[] result, int from, int to) {
+        super.cos(x, result, trigonometryAndExp ? lanewise(VectorOperators.COS, x, result, from, to) : from, to);
+    }
+
+    @Override
+    void tan(double[] x, double[] result, int from, int to) {
+        super.tan(x, result, trigonometryAndExp ? lanewise(VectorOperators.TAN, x, result, from, to) : from, to);
+    }
+
+    @Override
+    void exp(double[] x, double[] result, int from, int to) {
+        super.exp(x, result, trigonometryAndExp ? lanewise(VectorOperators.EXP, x, result, from, to) : from, to);
+    }
+
+    @Override
+    void log(double[] x, double[] result, int from, int to, double logBase) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector xv = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector value = xv.lanewise(VectorOperators.LOG).div(logBase);
+            value.blend(Double.NaN, xv.compare(VectorOperators.LE, 0.0)).intoArray(result, i);
+        }
+        super.log(x, result, i, to, logBase);
+    }
+
+    @Override
+    double trapezoidSum(double initial, double yLeft, double[] y, int count, double step) {
+        if (count == 0) {
+            return initial;
+        }
+        // Первая пара включает значение из предыдущего блока, остальные - соседние элементы y.
+        double sum = yLeft + y[0];
+        DoubleVector pairs = DoubleVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(count - 1);
+        for (; i < upper; i += SPECIES.length()) {
+            pairs = pairs.add(DoubleVector.fromArray(SPECIES, y, i).add(DoubleVector.fromArray(SPECIES, y, i + 1)));
+        }
+        // Полосы складываются по порядку: порядок reduceLanes(ADD) не определён, а результат должен повторяться.
+        for (double lane : pairs.toArray()) {
+            sum += lane;
+        }
+        for (; i < count - 1; i++) {
+            sum += y[i] + y[i + 1];
+        }
+        return initial + sum * step / 2.0;
+    }
+
+    // Применяет поэлементную операцию к целым векторам из [from; to) и возвращает индекс начала хвоста.
+    private static int lanewise(VectorOperators.Unary operator, double[] x, double[] result, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, x, i).lanewise(operator).intoArray(result, i);
+        }
+        return i;
+    }
+}
@@ -0,0 +1,172 @@
+package functions;
+
+import java.util.PriorityQueue;
+
+/**
+ * Глобальное адаптивное интегрирование: на каждом шаге пополам делится отрезок
+ * с наибольшей оценкой погрешности, пока суммарная оценка погрешности не станет
+ * не больше {@code max(absoluteTolerance, relativeTolerance * |значение|)}.
+ * Используется методами {@link Functions#integrateSimpson(Function, double, double, double, double)}
+ * и {@link Functions#integrateGaussKronrod(Function, double, double, double, double)}.
+ */
+final class AdaptiveQuadrature {
+    // Наибольшее количество отрезков, на которые делится отрезок интегрирования.
+    private static final int MAX_SEGMENTS_COUNT = 10_000;
+    // Доля длины отрезка, на которую сдвигается внутрь конец отрезка интегрирования,
+    // если значение функции на нём не является конечным числом (например, у Log в нуле).
+    static final double ENDPOINT_SHIFT = 1e-10;
+
+    // Узлы квадратуры Кронрода по 15 точкам на [-1; 1] (неотрицательная половина, по убыванию).
+    // Узлы с нечётными индексами - узлы квадратуры Гаусса по 7 точкам.
+    private static final double[] KRONROD_NODES = {
+            0.991455371120812639206854697526329, 0.949107912342758524526189684047851,
+            0.864864423359769072789712788640926, 0.741531185599394439863864773280788,
+            0.586087235467691130294144845693013, 0.405845151377397166906606412076961,
+            0.207784955007898467600689403773245, 0.000000000000000000000000000000000
+    };
+    private static final double[] KRONROD_WEIGHTS = {
+            0.022935322010529224963732008058970, 0.063092092629978553290700663189204,
+            0.104790010322250183839876322541518, 0.140653259715525918745189590510238,
+            0.169004726639267902826583426598550, 0.190350578064785409913256402421014,
+            0.204432940075298892414161999234649, 0.209482141084727828012999174891714
+    };
+    private static final double[] GAUSS_WEIGHTS = {
+            0.129484966168869693270611432679082, 0.279705391489276667901467771423780,
+            0.381830050505118944950369775488975, 0.417959183673469387755102040816327
+    };
+
+    private AdaptiveQuadrature() {}
+
+    // Отрезок разбиения с приближённым значением интеграла на нём и оценкой погрешности.
+    // Для метода Симпсона samples - значения функции в точках a, a + h/4, a + h/2, a + 3h/4, b.
+    private static final class Segment {
+        final double a;
+        final double b;
+        final double value;
+        final double error;
+        final double[] samples;
+
+        Segment(double a, double b, double value, double error, double[] samples) {
+            this.a = a;
+            this.b = b;
+            this.value = value;
+            this.error = error;
+            this.samples = samples;
+        }
+    }
+
+    // Способ вычисления интеграла на отрезке.
+    private interface Rule {
+        Segment segment(double a, double b, double[] knownSamples);
+    }
+
+    static IntegrationResult simpson(Function f, double leftX, double rightX,
+                                     double absoluteTolerance, double relativeTolerance) {
+        int[] evaluations = {0};
+        // Значения на концах отрезка вычисляются один раз; в делениях участвуют только внутренние точки.
+        double leftY = endpointValue(f, leftX, (rightX - leftX) * ENDPOINT_SHIFT, evaluations);
+        double rightY = endpointValue(f, rightX, -(rightX - leftX) * ENDPOINT_SHIFT, evaluations);
+        double middleY = f.getFunctionValue((leftX + rightX) / 2);
+        evaluations[0]++;
+
+        Rule rule = (a, b, known) -> {
+            // known - значения функции в a, (a + b) / 2 и b; вычисляются значения в серединах половин.
+            double h = b - a;
+            double[] samples = {known[0], f.getFunctionValue(a + h / 4), known[1], f.getFunctionValue(a + 3 * h / 4), known[2]};
+            evaluations[0] += 2;
+            double coarse = h / 6 * (samples[0] + 4 * samples[2] + samples[4]);
+            double fine = h / 12 * (samples[0] + 4 * samples[1] + 2 * samples[2] + 4 * samples[3] + samples[4]);
+            // Экстраполяция Ричардсона: погрешность формулы Симпсона убывает как h^4.
+            return new Segment(a, b, fine + (fine - coarse) / 15, Math.abs(fine - coarse) / 15, samples);
+        };
+        Segment whole = rule.segment(leftX, rightX, new double[]{leftY, middleY, rightY});
+        return refine(rule, whole, absoluteTolerance, relativeTolerance, evaluations, true);
+    }
+
+    static IntegrationResult gaussKronrod(Function f, double leftX, double rightX,
+                                          double absoluteTolerance, double relativeTolerance) {
+        int[] evaluations = {0};
+        double[] nodes = new double[15];
+        double[] values = new double[15];
+        Rule rule = (a, b, known) -> {
+            double center = (a + b) / 2;
+            double halfLength = (b - a) / 2;
+            // Узлы упорядочены по возрастанию, чтобы табулированные функции вычисляли значения одним проходом.
+            for (int i = 0; i < 7; i++) {
+                nodes[i] = center - halfLength * KRONROD_NODES[i];
+                nodes[14 - i] = center + halfLength * KRONROD_NODES[i];
+            }
+            nodes[7] = center;
+            f.getFunctionValues(nodes, values);
+            evaluations[0] += 15;
+
+            double kronrod = KRONROD_WEIGHTS[7] * values[7];
+            double gauss = GAUSS_WEIGHTS[3] * values[7];
+            for (int i = 0; i < 7; i++) {
+                double pair = values[i] + values[14 - i];
+                kronrod += KRONROD_WEIGHTS[i] * pair;
+                if (i % 2 == 1) {
+                    gauss += GAUSS_WEIGHTS[i / 2] * pair;
+                }
+            }
+            return new Segment(a, b, kronrod * halfLength, Math.abs(kronrod - gauss) * halfLength, null);
+        };
+        Segment whole = rule.segment(leftX, rightX, null);
+        return refine(rule, whole, absoluteTolerance, relativeTolerance, evaluations, false);
+    }
+
+    // Делит отрезок с наибольшей оценкой погрешности, пока не достигнута заданная точность,
+    // не исчерпан предел количества отрезков или отрезок больше нельзя разделить.
+    // Неконечное значение интеграла на отрезке прекращает деление: уточнение его не исправит.
+    private static IntegrationResult refine(Rule rule, Segment whole, double absoluteTolerance,
+                                            double relativeTolerance, int[] evaluations, boolean reuseSamples) {
+        PriorityQueue<Segment> segments = new PriorityQueue<>((s1, s2) -> Double.compare(s2.error, s1.error));
+        segments.add(whole);
+        double value = whole.value;
+        double error = whole.error;
+        while (segments.size() < MAX_SEGMENTS_COUNT && Double.isFinite(value)
+                && error > Math.max(absoluteTolerance, relativeTolerance * Math.abs(value))) {
+            Segment worst = segments.peek();
+            double middle = (worst.a + worst.b) / 2;
+            if (!(middle > worst.a && middle < worst.b)) {
+                break;
+            }
+            segments.poll();
+            Segment left;
+            Segment right;
+            if (reuseSamples) {
+                double[] s = worst.samples;
+                left = rule.segment(worst.a, middle, new double[]{s[0], s[1], s[2]});
+                right = rule.segment(middle, worst.b, new double[]{s[2], s[3], s[4]});
+            } else {
+                left = rule.segment(worst.a, middle, null);
+                right = rule.segment(middle, worst.b, null);
+            }
+            segments.add(left);
+            segments.add(right);
+            value += left.value + right.value - worst.value;
+            error += left.error + right.error - worst.error;
+        }
+
+        // Итоговые суммы вычисляются заново, чтобы не накапливать погрешность округления от вычитаний.
+        double totalValue = 0;
+        double totalError = 0;
+        for (Segment segment : segments) {
+            totalValue += segment.value;
+            totalError += segment.error;
+        }
+        return new IntegrationResult(totalValue, totalError, evaluations[0]);
+    }
+
+    // Вычисляет значение функции на конце отрезка интегрирования.
+    // Если значение не является конечным числом, используется значение в точке, сдвинутой внутрь отрезка на shift.
+    static double endpointValue(Function f, double x, double shift, int[] evaluations) {
+        double y = f.getFunctionValue(x);
+        evaluations[0]++;
+        if (!Double.isFinite(y)) {
+            y = f.getFunctionValue(x + shift);
+            evaluations[0]++;
+        }
+        return y;
+    }
+}
@@ -0,0 +1,54 @@
+package functions;
+
+/**
+ * Результат адаптивного табулирования функции
+ * {@link TabulatedFunctions#tabulateAdaptive(Function, double, double, double)}:
+ * табулированная функция и количество вычислений исходной функции, затраченных на её построение.
+ */
+public final class AdaptiveTabulationResult {
+    private final TabulatedFunction function;
+    private final int evaluationsCount;
+    private final boolean evaluationLimitReached;
+
+    AdaptiveTabulationResult(TabulatedFunction function, int evaluationsCount, boolean evaluationLimitReached) {
+        this.function = function;
+        this.evaluationsCount = evaluationsCount;
+        this.evaluationLimitReached = evaluationLimitReached;
+    }
+
+    /**
+     * Возвращает построенную табулированную функцию.
+     *
+     * @return табулированная функция
+     */
+    public TabulatedFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Возвращает количество вычислений исходной функции.
+     * Оно не меньше количества точек результата: значения в серединах отрезков,
+     * где погрешность оказалась допустимой, вычисляются, но в функцию не попадают.
+     *
+     * @return количество вычислений исходной функции
+     */
+    public int getEvaluationsCount() {
+        return evaluationsCount;
+    }
+
+    /**
+     * Проверяет, был ли исчерпан запас вычислений функции при делении отрезков.
+     * В этом случае часть отрезков осталась неразделённой и заданная точность могла не достигаться.
+     *
+     * @return {@code true}, если деление отрезков было остановлено ограничением на количество вычислений
+     */
+    public boolean isEvaluationLimitReached() {
+        return evaluationLimitReached;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Точек: %d, вычислений функции: %d%s", function.getPointsCount(), evaluationsCount,
+                evaluationLimitReached ? " (достигнуто ограничение на количество вычислений)" : "");
+    }
+}
@@ -29,6 +29,12 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
 
     private FunctionPoint[] points;
     private int size;
+    // Признак равномерной сетки: позволяет находить отрезок за O(1) вместо двоичного поиска.
+    private boolean uniform;
+    private double uniformStep;
+    // Кэш наклонов отрезков: slopes[i] - наклон отрезка [i - 1; i]. Пока кэш выключен, равен null.
+    // Не сериализуется.
+    private double[] slopes;
 
     // Конструктор без параметров для сериализации.
     public ArrayTabulatedFunction() {}
@@ -54,6 +60,8 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
             points[i] = new FunctionPoint(leftX + i * step, 0);
         }
         points[size - 1] = new FunctionPoint(rightX, 0);
+        uniform = true;
+        uniformStep = step;
     }
 
     /**
@@ -77,6 +85,8 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
             points[i] = new FunctionPoint(leftX + i * step, values[i]);
         }
         points[size - 1] = new FunctionPoint(rightX, values[size - 1]);
+        uniform = true;
+        uniformStep = step;
     }
 
     /**
@@ -99,6 +109,7 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
         for (int i = 0; i < size; i++) {
             this.points[i] = new FunctionPoint(points[i]);
         }
+        detectUniformity();
     }
 
     @Override
@@ -114,22 +125,70 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
     @Override
     public double getFunctionValue(double x) {
         if (x >= getLeftDomainBorder() && x <= getRightDomainBorder()) {
-            for (int i = 1; i < size; i++) {
-                if (x <= points[i].getX() + 1e-10) {
-                    if (Math.abs(x - points[i].getX()) < 1e-10) {
-                        return points[i].getY();
-                    }
-                    double y1 = points[i - 1].getY();
-                    double y2 = points[i].getY();
-                    double x1 = points[i - 1].getX();
-                    double x2 = points[i].getX();
-                    return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
-                }
+            int i = findSegmentEnd(x);
+            if (Math.abs(x - points[i].getX()) < 1e-10) {
+                return points[i].getY();
+            }
+            if (slopes != null) {
+                return points[i - 1].getY() + slopes[i] * (x - points[i - 1].getX());
             }
+            double y1 = points[i - 1].getY();
+            double y2 = points[i].getY();
+            double x1 = points[i - 1].getX();
+            double x2 = points[i].getX();
+            return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
         }
         return Double.NaN;
     }
 
+    /**
+     * Вычисляет значения функции для массива аргументов.
+     * Если аргументы упорядочены по возрастанию, отрезки интерполяции находятся
+     * одним проходом навстречу точкам функции, иначе значения вычисляются по одному.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        if (!TabulatedFunctions.isNonDecreasing(x)) {
+            for (int k = 0; k < x.length; k++) {
+                result[k] = getFunctionValue(x[k]);
+            }
+            return;
+        }
+        double leftX = getLeftDomainBorder();
+        double rightX = getRightDomainBorder();
+        int i = 1;
+        for (int k = 0; k < x.length; k++) {
+            double xk = x[k];
+            if (xk < leftX || xk > rightX) {
+                result[k] = Double.NaN;
+                continue;
+            }
+            // Отрезок для следующего аргумента не левее текущего: чаще всего это тот же или соседний отрезок.
+            if (xk > points[i].getX() + 1e-10) {
+                i++;
+                if (xk > points[i].getX() + 1e-10) {
+                    i = findSegmentEnd(xk);
+                }
+            }
+            if (Math.abs(xk - points[i].getX()) < 1e-10) {
+                result[k] = points[i].getY();
+                continue;
+            }
+            if (slopes != null) {
+                result[k] = points[i - 1].getY() + slopes[i] * (xk - points[i - 1].getX());
+                continue;
+            }
+            double y1 = points[i - 1].getY();
+            double y2 = points[i].getY();
+            double x1 = points[i - 1].getX();
+            double x2 = points[i].getX();
+            result[k] = y1 + (y2 - y1) * (xk - x1) / (x2 - x1);
+        }
+    }
+
     @Override
     public int getPointsCount() {
         return size;
@@ -158,6 +217,8 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
         checkIndexBounds(index);
         checkPointOrder(index, point.getX());
         points[index] = new FunctionPoint(point);
+        updateUniformity(index);
+        updateSlopes(index, index + 1);
     }
 
     @Override
@@ -165,12 +226,15 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
         checkIndexBounds(index);
         checkPointOrder(index, x);
         points[index].setX(x);
+        updateUniformity(index);
+        updateSlopes(index, index + 1);
     }
 
     @Override
     public void setPointY(int index, double y) {
         checkIndexBounds(index);
         points[index].setY(y);
+        updateSlopes(index, index + 1);
     }
 
     @Override
@@ -181,6 +245,11 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
         }
         System.arraycopy(points, index + 1, points, index, size - index - 1);
         size--;
+        // Удаление крайней точки сохраняет равномерность сетки, удаление внутренней - нарушает.
+        if (index != 0 && index != size) {
+            uniform = false;
+        }
+        onPointDeleted(index);
     }
 
     @Override
@@ -201,18 +270,170 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
             points = tempPoints;
         }
 
+        int insertIndex = size;
         if (point.getX() > getRightDomainBorder()) {
+            // Точка, продолжающая равномерную сетку вправо, не нарушает её равномерности.
+            if (Math.abs(point.getX() - getRightDomainBorder() - uniformStep) > uniformStep * 1e-9) {
+                uniform = false;
+            }
             points[size] = new FunctionPoint(point);
         } else {
+            uniform = false;
             for (int i = 0; i < size; i++) {
                 if (point.getX() < points[i].getX()) {
                     System.arraycopy(points, i, points, i + 1, size - i);
                     points[i] = new FunctionPoint(point);
+                    insertIndex = i;
                     break;
                 }
             }
         }
         size++;
+        onPointInserted(insertIndex);
+    }
+
+    /**
+     * Добавляет в функцию сразу несколько точек за один проход слияния O(n + k log k).
+     * Все точки проверяются до изменения функции.
+     *
+     * @param newPoints добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(newPoints);
+        // Проверка всех точек до изменения функции: один проход навстречу точкам функции.
+        int i = 0;
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            while (i < size && points[i].getX() < pointX) {
+                i++;
+            }
+            if ((i < size && Math.abs(points[i].getX() - pointX) < 1e-10)
+                    || (i > 0 && Math.abs(points[i - 1].getX() - pointX) < 1e-10)) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+        }
+
+        int newSize = size + sortedPoints.length;
+        if (newSize > points.length) {
+            FunctionPoint[] tempPoints = new FunctionPoint[Math.max(newSize, size * 2)];
+            System.arraycopy(points, 0, tempPoints, 0, size);
+            points = tempPoints;
+        }
+        // Слияние с конца: каждая точка функции сдвигается не более одного раза.
+        int read = size - 1;
+        int write = newSize - 1;
+        for (int j = sortedPoints.length - 1; j >= 0; j--) {
+            double pointX = sortedPoints[j].getX();
+            while (read >= 0 && points[read].getX() > pointX) {
+                points[write] = points[read];
+                write--;
+                read--;
+            }
+            points[write] = new FunctionPoint(sortedPoints[j]);
+            write--;
+        }
+        size = newSize;
+        detectUniformity();
+        rebuildSlopes();
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}],
+     * одним сдвигом оставшихся точек.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        int from = 0;
+        int high = size;
+        while (from < high) {
+            int mid = (from + high) >>> 1;
+            if (points[mid].getX() < fromX) {
+                from = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = from;
+        high = size;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (points[mid].getX() <= toX) {
+                to = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int count = to - from;
+        if (size - count < 2) {
+            throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+        }
+        System.arraycopy(points, to, points, from, size - to);
+        // Удаление точек с края сохраняет равномерность сетки, удаление внутренних - нарушает.
+        if (from != 0 && to != size) {
+            uniform = false;
+        }
+        size -= count;
+        rebuildSlopes();
+        return count;
+    }
+
+    /**
+     * Включает или отключает кэш наклонов отрезков интерполяции.
+     * При включённом кэше значение функции на отрезке вычисляется одним умножением со сложением
+     * без деления; наклоны соседних отрезков пересчитываются при каждом изменении точки.
+     * Включение вычисляет наклоны всех отрезков за O(n). Значения функции с кэшем и без него
+     * могут отличаться в пределах погрешности округления.
+     * <p>
+     * Кэш не сериализуется: {@link #writeExternal(ObjectOutput)} записывает только точки, поэтому
+     * у функции, прочитанной из потока, кэш выключен. Копия {@link #clone()} сохраняет состояние кэша.
+     *
+     * @param enabled {@code true}, чтобы вычислить наклоны, {@code false}, чтобы удалить кэш
+     */
+    public void setSlopeCacheEnabled(boolean enabled) {
+        if (enabled == (slopes != null)) {
+            return;
+        }
+        if (enabled) {
+            slopes = new double[points.length];
+            updateSlopes(1, size - 1);
+        } else {
+            slopes = null;
+        }
+    }
+
+    /**
+     * Проверяет, включён ли кэш наклонов отрезков.
+     *
+     * @return {@code true}, если кэш включён
+     */
+    public boolean isSlopeCacheEnabled() {
+        return slopes != null;
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, читая координаты прямо из массива точек.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(i, points[i].getX(), points[i].getY());
+        }
     }
 
     // ───────────────────────────────
@@ -253,14 +474,12 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("{");
-
-        for (int i = 0; i < size; i++) {
-            sb.append(points[i]);
-            if (i < size - 1) {
+        forEachPoint((i, x, y) -> {
+            if (i > 0) {
                 sb.append(", ");
             }
-        }
-
+            sb.append('(').append(x).append("; ").append(y).append(')');
+        });
         sb.append("}");
         return sb.toString();
     }
@@ -296,11 +515,11 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
         }
 
         for (int i = 0; i < size; i++) {
-            if (!points[i].equals(other.getPoint(i))) {
+            if (Math.abs(points[i].getX() - other.getPointX(i)) >= 1e-10
+                    || Math.abs(points[i].getY() - other.getPointY(i)) >= 1e-10) {
                 return false;
             }
         }
-
         return true;
     }
 
@@ -311,13 +530,9 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
      */
     @Override
     public int hashCode() {
-        int hash = size;
-
-        for (int i = 0; i < size; i++) {
-            hash ^= points[i].hashCode();
-        }
-
-        return hash;
+        int[] hash = {size};
+        forEachPoint((i, x, y) -> hash[0] ^= Long.hashCode(Double.doubleToLongBits(x)) ^ Long.hashCode(Double.doubleToLongBits(y)));
+        return hash[0];
     }
 
     /**
@@ -331,7 +546,9 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
         for (int i = 0; i < size; i++) {
             pointsCopy[i] = (FunctionPoint) points[i].clone();
         }
-        return new ArrayTabulatedFunction(pointsCopy);
+        ArrayTabulatedFunction clone = new ArrayTabulatedFunction(pointsCopy);
+        clone.setSlopeCacheEnabled(slopes != null);
+        return clone;
     }
 
     // ────────────────────────────
@@ -356,12 +573,115 @@ public class ArrayTabulatedFunction implements TabulatedFunction, Externalizable
             double y = in.readDouble();
             points[i] = new FunctionPoint(x, y);
         }
+        detectUniformity();
+        rebuildSlopes();
     }
 
     // ────────────────────────────
     // Вспомогательные методы
     // ────────────────────────────
 
+    // Возвращает индекс i (1 <= i < size) первой точки, для которой x <= x[i] + 1e-10.
+    // Искомый отрезок интерполяции - [i - 1; i]. Значение x должно лежать в области определения.
+    // На равномерной сетке индекс вычисляется за O(1), иначе используется двоичный поиск.
+    private int findSegmentEnd(double x) {
+        if (uniform) {
+            int i = (int) ((x - points[0].getX()) / uniformStep) + 1;
+            if (i < 1) {
+                i = 1;
+            } else if (i > size - 1) {
+                i = size - 1;
+            }
+            // Поправка на погрешность округления при вычислении индекса.
+            while (i > 1 && x <= points[i - 1].getX() + 1e-10) {
+                i--;
+            }
+            while (i < size - 1 && x > points[i].getX() + 1e-10) {
+                i++;
+            }
+            return i;
+        }
+        int low = 1;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= points[mid].getX() + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Проверяет, образуют ли координаты X точек равномерную сетку.
+    private void detectUniformity() {
+        uniformStep = (points[size - 1].getX() - points[0].getX()) / (size - 1);
+        uniform = true;
+        for (int i = 1; i < size - 1; i++) {
+            if (Math.abs(points[i].getX() - (points[0].getX() + i * uniformStep)) > uniformStep * 1e-9) {
+                uniform = false;
+                return;
+            }
+        }
+    }
+
+    // Обновляет признак равномерности после изменения координаты X точки с индексом index.
+    private void updateUniformity(int index) {
+        if (uniform && (index == 0 || index == size - 1
+                || Math.abs(points[index].getX() - (points[0].getX() + index * uniformStep)) > uniformStep * 1e-9)) {
+            uniform = false;
+        }
+    }
+
+    // Пересчитывает наклоны отрезков, заканчивающихся в точках с индексами от from до to,
+    // если кэш наклонов включён. Индексы вне [1; size - 1] пропускаются.
+    private void updateSlopes(int from, int to) {
+        if (slopes == null) {
+            return;
+        }
+        for (int i = Math.max(from, 1); i <= Math.min(to, size - 1); i++) {
+            slopes[i] = (points[i].getY() - points[i - 1].getY()) / (points[i].getX() - points[i - 1].getX());
+        }
+    }
+
+    // Обновляет кэш наклонов после вставки точки с индексом index:
+    // наклоны следующих отрезков сдвигаются, наклоны двух отрезков у новой точки вычисляются заново.
+    private void onPointInserted(int index) {
+        if (slopes == null) {
+            return;
+        }
+        if (slopes.length < points.length) {
+            double[] tempSlopes = new double[points.length];
+            System.arraycopy(slopes, 0, tempSlopes, 0, slopes.length);
+            slopes = tempSlopes;
+        }
+        if (index + 2 < size) {
+            System.arraycopy(slopes, index + 1, slopes, index + 2, size - index - 2);
+        }
+        updateSlopes(index, index + 1);
+    }
+
+    // Обновляет кэш наклонов после удаления точки с индексом index:
+    // наклоны следующих отрезков сдвигаются, наклон отрезка на месте удалённой точки вычисляется заново.
+    private void onPointDeleted(int index) {
+        if (slopes == null) {
+            return;
+        }
+        if (index + 1 < size) {
+            System.arraycopy(slopes, index + 2, slopes, index + 1, size - index - 1);
+        }
+        updateSlopes(index, index);
+    }
+
+    // Вычисляет заново наклоны всех отрезков после группового изменения точек, если кэш наклонов включён.
+    private void rebuildSlopes() {
+        if (slopes != null) {
+            slopes = new double[points.length];
+            updateSlopes(1, size - 1);
+        }
+    }
+
     // Метод для проверки корректности индекса.
     // (0 <= index < size)
     private void checkIndexBounds(int index) {
@@ -0,0 +1,246 @@
+package functions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Пакетное интегрирование методом трапеций для {@link Functions#integrateAll(List, ForkJoinPool)}.
+ * <p>
+ * Задания с одной и той же функцией (тот же объект) и одинаковым шагом, узлы которых лежат на общей
+ * сетке {@code anchor + k * step}, а отрезки перекрываются или соприкасаются, объединяются в кластер.
+ * Значение функции в каждом узле кластера вычисляется один раз и используется всеми его заданиями,
+ * а сумма площадей трапеций по блоку узлов - всеми заданиями, покрывающими блок целиком.
+ * Объединённая сетка каждого кластера делится на части фиксированного размера, которые
+ * вычисляются параллельно; суммы частей складываются по порядку с компенсацией погрешности,
+ * поэтому результат не зависит от числа потоков.
+ */
+final class BatchIntegrator {
+    // Количество отрезков объединённой сетки, обрабатываемых одной задачей.
+    private static final int CHUNK_SIZE = 1 << 16;
+    // Количество узлов, значения в которых вычисляются за один вызов getFunctionValues.
+    private static final int BLOCK_SIZE = 1024;
+
+    private BatchIntegrator() {}
+
+    // Кластер заданий с общей сеткой anchor + k * step. Для задания jobs[i] узлы сетки с индексами
+    // от first[i] до last[i] лежат на его отрезке, последний отрезок задания заканчивается в его rightX.
+    private static final class Cluster {
+        final Function function;
+        final double anchor;
+        final double step;
+        int[] jobs = new int[4];
+        long[] first = new long[4];
+        long[] last = new long[4];
+        int jobsCount;
+        long unionLast;
+
+        Cluster(Function function, double anchor, double step) {
+            this.function = function;
+            this.anchor = anchor;
+            this.step = step;
+        }
+
+        double node(long index) {
+            return anchor + index * step;
+        }
+
+        void add(int jobIndex, long jobFirst, long jobLast) {
+            if (jobsCount == jobs.length) {
+                jobs = Arrays.copyOf(jobs, 2 * jobsCount);
+                first = Arrays.copyOf(first, 2 * jobsCount);
+                last = Arrays.copyOf(last, 2 * jobsCount);
+            }
+            jobs[jobsCount] = jobIndex;
+            first[jobsCount] = jobFirst;
+            last[jobsCount] = jobLast;
+            jobsCount++;
+            unionLast = Math.max(unionLast, jobLast);
+        }
+    }
+
+    // Часть объединённой сетки кластера: отрезки с индексами из [from; to).
+    // sums[i] - сумма площадей трапеций задания i кластера на этих отрезках.
+    private static final class Chunk extends RecursiveAction {
+        final Cluster cluster;
+        final long from;
+        final long to;
+        Functions.NeumaierSum[] sums;
+
+        Chunk(Cluster cluster, long from, long to) {
+            this.cluster = cluster;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int jobsCount = cluster.jobsCount;
+            sums = new Functions.NeumaierSum[jobsCount];
+            double[] xs = new double[BLOCK_SIZE + 1];
+            double[] ys = new double[BLOCK_SIZE + 1];
+            // Активные задания: начались не правее текущего блока и ещё не закончились.
+            // Задания упорядочены по первому узлу, поэтому добавляются по порядку индексов
+            // и удаляются из окна после блока, в котором заканчиваются.
+            int[] active = new int[jobsCount];
+            int activeCount = 0;
+            int nextJob = 0;
+            // Блоки узлов перекрываются на один узел: правый узел блока - левый узел следующего.
+            for (long blockFrom = from; blockFrom < to; blockFrom += BLOCK_SIZE) {
+                int count = (int) Math.min(BLOCK_SIZE, to - blockFrom);
+                long blockTo = blockFrom + count;
+                for (; nextJob < jobsCount && cluster.first[nextJob] < blockTo; nextJob++) {
+                    // Задания, закончившиеся левее блока, в окно не попадают.
+                    if (cluster.last[nextJob] > blockFrom) {
+                        active[activeCount++] = nextJob;
+                    }
+                }
+                if (activeCount == 0) {
+                    continue;
+                }
+                if (count + 1 != xs.length) {
+                    xs = new double[count + 1];
+                    ys = new double[count + 1];
+                }
+                for (int i = 0; i <= count; i++) {
+                    xs[i] = cluster.node(blockFrom + i);
+                }
+                cluster.function.getFunctionValues(xs, ys);
+                // Сумма по всему блоку вычисляется один раз для заданий, отрезки которых покрывают блок целиком.
+                Functions.NeumaierSum blockSum = null;
+                for (int a = 0; a < activeCount; ) {
+                    int j = active[a];
+                    // Отрезки сетки задания: [first; last), пересечение с отрезками блока.
+                    long segmentFrom = Math.max(cluster.first[j], blockFrom);
+                    long segmentTo = Math.min(cluster.last[j], blockTo);
+                    if (segmentFrom < segmentTo) {
+                        if (sums[j] == null) {
+                            sums[j] = new Functions.NeumaierSum();
+                        }
+                        if (segmentFrom == blockFrom && segmentTo == blockTo) {
+                            if (blockSum == null) {
+                                blockSum = new Functions.NeumaierSum();
+                                for (int i = 0; i < count; i++) {
+                                    blockSum.add((ys[i] + ys[i + 1]) * (xs[i + 1] - xs[i]) / 2.0);
+                                }
+                            }
+                            sums[j].add(blockSum);
+                        } else {
+                            for (long k = segmentFrom; k < segmentTo; k++) {
+                                int i = (int) (k - blockFrom);
+                                sums[j].add((ys[i] + ys[i + 1]) * (xs[i + 1] - xs[i]) / 2.0);
+                            }
+                        }
+                    }
+                    // Закончившееся задание заменяется последним заданием окна.
+                    if (cluster.last[j] <= blockTo) {
+                        active[a] = active[--activeCount];
+                    } else {
+                        a++;
+                    }
+                }
+            }
+        }
+    }
+
+    static double[] integrate(List<IntegrationJob> jobs, ForkJoinPool pool) {
+        List<Cluster> clusters = buildClusters(jobs);
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (Cluster cluster : clusters) {
+            for (long from = 0; from < cluster.unionLast; from += CHUNK_SIZE) {
+                chunks.add(new Chunk(cluster, from, Math.min(from + CHUNK_SIZE, cluster.unionLast)));
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(chunks);
+            }
+        });
+
+        double[] results = new double[jobs.size()];
+        int chunkIndex = 0;
+        for (Cluster cluster : clusters) {
+            int jobsCount = cluster.jobsCount;
+            Functions.NeumaierSum[] totals = new Functions.NeumaierSum[jobsCount];
+            for (int j = 0; j < jobsCount; j++) {
+                totals[j] = new Functions.NeumaierSum();
+            }
+            for (; chunkIndex < chunks.size() && chunks.get(chunkIndex).cluster == cluster; chunkIndex++) {
+                Functions.NeumaierSum[] sums = chunks.get(chunkIndex).sums;
+                for (int j = 0; j < jobsCount; j++) {
+                    if (sums[j] != null) {
+                        totals[j].add(sums[j]);
+                    }
+                }
+            }
+            // Последний отрезок каждого задания: от последнего узла сетки до rightX.
+            double[] xs = new double[2 * jobsCount];
+            double[] ys = new double[2 * jobsCount];
+            for (int j = 0; j < jobsCount; j++) {
+                xs[2 * j] = cluster.node(cluster.last[j]);
+                xs[2 * j + 1] = jobs.get(cluster.jobs[j]).getRightX();
+            }
+            cluster.function.getFunctionValues(xs, ys);
+            for (int j = 0; j < jobsCount; j++) {
+                totals[j].add((ys[2 * j] + ys[2 * j + 1]) * (xs[2 * j + 1] - xs[2 * j]) / 2.0);
+                results[cluster.jobs[j]] = totals[j].value();
+            }
+        }
+        return results;
+    }
+
+    // Группирует задания по функции и шагу, а внутри группы - по общей сетке и перекрытию отрезков.
+    private static List<Cluster> buildClusters(List<IntegrationJob> jobs) {
+        Map<Function, Map<Double, List<Integer>>> groups = new IdentityHashMap<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            IntegrationJob job = jobs.get(i);
+            groups.computeIfAbsent(job.getFunction(), f -> new LinkedHashMap<>())
+                    .computeIfAbsent(job.getStep(), s -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<Cluster> clusters = new ArrayList<>();
+        for (Map<Double, List<Integer>> byStep : groups.values()) {
+            for (List<Integer> group : byStep.values()) {
+                group.sort((i1, i2) -> Double.compare(jobs.get(i1).getLeftX(), jobs.get(i2).getLeftX()));
+                Cluster cluster = null;
+                for (int jobIndex : group) {
+                    IntegrationJob job = jobs.get(jobIndex);
+                    double step = job.getStep();
+                    long first = 0;
+                    boolean joins = false;
+                    if (cluster != null) {
+                        first = Math.round((job.getLeftX() - cluster.anchor) / step);
+                        // Задание присоединяется, если его левая граница - узел сетки кластера
+                        // и его отрезок начинается не правее конца объединённой сетки.
+                        joins = first <= cluster.unionLast
+                                && Math.abs(cluster.node(first) - job.getLeftX()) < 1e-10;
+                    }
+                    if (!joins) {
+                        cluster = new Cluster(job.getFunction(), job.getLeftX(), step);
+                        clusters.add(cluster);
+                        first = 0;
+                    }
+                    // Последний узел сетки, лежащий левее rightX (но не левее первого узла задания).
+                    double rightX = job.getRightX();
+                    long last = Math.max(first, (long) Math.ceil((rightX - cluster.anchor) / step) - 1);
+                    while (last > first && cluster.node(last) >= rightX) {
+                        last--;
+                    }
+                    while (cluster.node(last + 1) < rightX) {
+                        last++;
+                    }
+                    cluster.add(jobIndex, first, last);
+                }
+            }
+        }
+        return clusters;
+    }
+}
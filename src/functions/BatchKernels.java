@@ -0,0 +1,141 @@
+package functions;
+
+/**
+ * Ядра пакетных вычислений: значения базовых функций для массива аргументов
+ * и сумма площадей трапеций в {@link Functions#integrate(Function, double, double, double)}.
+ * <p>
+ * Реализация выбирается один раз при загрузке класса. По умолчанию используются скалярные циклы,
+ * значения которых совпадают с поточечными вычислениями. Векторные ядра на Vector API включаются
+ * системным свойством {@value #VECTOR_PROPERTY}: {@code true} - векторные логарифм и сумма трапеций;
+ * {@code all} - кроме того, векторные sin, cos, tan и e^x. Для этого на пути классов должен быть класс
+ * {@code functions.VectorBatchKernels} из отдельного корня исходников {@code src-vector}, а модуль
+ * {@code jdk.incubator.vector} должен быть подключён; иначе остаются скалярные ядра. Векторный класс
+ * компилируется и подключается отдельно, так как инкубаторный модуль требует флага {@code --add-modules}
+ * и при компиляции, и при запуске:
+ * <pre>
+ * javac -d out $(find src -name '*.java')
+ * javac --add-modules jdk.incubator.vector -cp out -d out src-vector/functions/VectorBatchKernels.java
+ * java --add-modules jdk.incubator.vector -Dfunctions.vectorKernels=true -cp out Main
+ * </pre>
+ * В JDK 17 на x86-64 поэлементные SIN, COS, TAN и EXP Vector API работают медленнее встроенных
+ * скалярных методов {@link Math}, а LOG - в несколько раз быстрее, поэтому значение {@code true}
+ * векторизует только логарифм.
+ * <p>
+ * Погрешности векторных ядер: поэлементные операции Vector API над {@code double} имеют ту же
+ * точность, что и соответствующие методы {@link Math}, поэтому sin, cos, tan и e^x отличаются
+ * от точного значения не больше чем на 1 ulp, логарифм по основанию - не больше чем на 3 ulp,
+ * но результат может отличаться от скалярного в последнем бите. Сумма трапеций накапливается
+ * по полосам вектора, а полосы складываются в фиксированном порядке; она отличается от
+ * последовательной суммы в пределах погрешности округления.
+ * <p>
+ * С векторными ядрами значения не воспроизводятся побитово: поэлементные операции Vector API
+ * вычисляются по-разному до и после JIT-компиляции, поэтому одни и те же аргументы могут давать
+ * значения, отличающиеся в последнем бите, в разных вызовах одной программы. Гарантии совпадения
+ * результатов ({@link TabulatedFunctions#tabulateParallel(Function, double, double, int)} с
+ * последовательным табулированием, повторных вычислений в {@link Functions#integrateParallel(Function,
+ * double, double, double)} и {@link Functions#integrateAll(java.util.List)}) действуют только
+ * со скалярными ядрами.
+ */
+public final class BatchKernels {
+    /** Системное свойство, значения {@code true} и {@code all} которого включают векторные ядра. */
+    public static final String VECTOR_PROPERTY = "functions.vectorKernels";
+
+    private static final String VECTOR_KERNELS_CLASS = "functions.VectorBatchKernels";
+    private static final ScalarBatchKernels KERNELS = loadKernels();
+
+    private BatchKernels() {}
+
+    /**
+     * Проверяет, используются ли векторные ядра.
+     *
+     * @return {@code true}, если загружены ядра на Vector API
+     */
+    public static boolean isVectorized() {
+        return KERNELS.getClass() != ScalarBatchKernels.class;
+    }
+
+    /**
+     * Возвращает название используемой реализации ядер, например {@code "scalar"}
+     * или {@code "vector (4 x double)"}.
+     *
+     * @return название реализации
+     */
+    public static String getImplementationName() {
+        return KERNELS.name();
+    }
+
+    /**
+     * Записывает sin(x[i]) в result[i] для всех элементов {@code x}.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x}, может совпадать с {@code x})
+     */
+    public static void sin(double[] x, double[] result) {
+        KERNELS.sin(x, result, 0, x.length);
+    }
+
+    /**
+     * Записывает cos(x[i]) в result[i] для всех элементов {@code x}.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x}, может совпадать с {@code x})
+     */
+    public static void cos(double[] x, double[] result) {
+        KERNELS.cos(x, result, 0, x.length);
+    }
+
+    /**
+     * Записывает tan(x[i]) в result[i] для всех элементов {@code x}.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x}, может совпадать с {@code x})
+     */
+    public static void tan(double[] x, double[] result) {
+        KERNELS.tan(x, result, 0, x.length);
+    }
+
+    /**
+     * Записывает e^x[i] в result[i] для всех элементов {@code x}.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x}, может совпадать с {@code x})
+     */
+    public static void exp(double[] x, double[] result) {
+        KERNELS.exp(x, result, 0, x.length);
+    }
+
+    /**
+     * Записывает ln(x[i]) / logBase в result[i] для всех элементов {@code x};
+     * для неположительных аргументов записывается {@code Double.NaN}.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x}, может совпадать с {@code x})
+     * @param logBase натуральный логарифм основания
+     */
+    public static void log(double[] x, double[] result, double logBase) {
+        KERNELS.log(x, result, 0, x.length, logBase);
+    }
+
+    // Прибавляет к initial площади трапеций с шагом step на отрезках между соседними значениями
+    // последовательности yLeft, y[0], ..., y[count - 1].
+    static double trapezoidSum(double initial, double yLeft, double[] y, int count, double step) {
+        return KERNELS.trapezoidSum(initial, yLeft, y, count, step);
+    }
+
+    // Загружает векторные ядра, если они доступны и не отключены, иначе возвращает скалярные.
+    private static ScalarBatchKernels loadKernels() {
+        String mode = System.getProperty(VECTOR_PROPERTY, "false");
+        if (!mode.equalsIgnoreCase("true") && !mode.equalsIgnoreCase("all")) {
+            return new ScalarBatchKernels();
+        }
+        try {
+            Class<?> vectorKernels = Class.forName(VECTOR_KERNELS_CLASS);
+            return (ScalarBatchKernels) vectorKernels.getDeclaredConstructor(boolean.class)
+                    .newInstance(mode.equalsIgnoreCase("all"));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Класса нет на пути классов, модуль jdk.incubator.vector не подключён
+            // или векторные регистры слишком короткие.
+            return new ScalarBatchKernels();
+        }
+    }
+}
@@ -0,0 +1,968 @@
+package functions;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Потокобезопасная табулированная функция одной переменной,
+ * хранящая координаты точек в двух параллельных массивах примитивов {@code double}.
+ * <p>
+ * Чтение выполняется оптимистично ({@link StampedLock#tryOptimisticRead()}): поток читает массивы
+ * без блокировки и ничего не записывает в общую память, а затем проверяет, что за это время
+ * не было записи. Поэтому множество потоков вычисляет значения функции без взаимной конкуренции.
+ * Если во время чтения произошла запись, чтение повторяется под блокировкой чтения.
+ * Методы изменения точек выполняются под монопольной блокировкой записи.
+ * <p>
+ * Итератор, {@link #toString()}, {@link #equals(Object)} и {@link #hashCode()} работают
+ * с согласованным снимком точек, сделанным под блокировкой чтения.
+ */
+public class ConcurrentTabulatedFunction implements TabulatedFunction, Externalizable {
+
+    public static class ConcurrentTabulatedFunctionFactory implements TabulatedFunctionFactory {
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, int pointsCount) {
+            return new ConcurrentTabulatedFunction(leftX, rightX, pointsCount);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, double[] values) {
+            return new ConcurrentTabulatedFunction(leftX, rightX, values);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(FunctionPoint[] points) {
+            return new ConcurrentTabulatedFunction(points);
+        }
+    }
+
+    // Количество шагов курсора по соседним отрезкам, после которого отрезок ищется заново.
+    private static final int CURSOR_WALK_LIMIT = 8;
+
+    private final StampedLock lock = new StampedLock();
+    private double[] xValues;
+    private double[] yValues;
+    private int size;
+    // Признак равномерной сетки: позволяет находить отрезок за O(1) вместо двоичного поиска.
+    private boolean uniform;
+    private double uniformStep;
+
+    // Конструктор без параметров для сериализации.
+    public ConcurrentTabulatedFunction() {}
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и нулевыми значениями.
+     *
+     * @param leftX       левая граница области определения (меньше правой)
+     * @param rightX      правая граница области определения
+     * @param pointsCount количество точек табулирования (не менее двух)
+     * @throws IllegalArgumentException если левая граница >= правой или точек < 2
+     */
+    public ConcurrentTabulatedFunction(double leftX, double rightX, int pointsCount) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (pointsCount < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+
+        size = pointsCount;
+        xValues = new double[size];
+        yValues = new double[size];
+        double step = (rightX - leftX) / (size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            xValues[i] = leftX + i * step;
+        }
+        xValues[size - 1] = rightX;
+        uniform = true;
+        uniformStep = step;
+    }
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и заданными значениями.
+     *
+     * @param leftX  левая граница области определения (меньше правой)
+     * @param rightX правая граница области определения
+     * @param values значения функции в точках табулирования (не менее двух)
+     * @throws IllegalArgumentException если границы некорректны или значений < 2
+     */
+    public ConcurrentTabulatedFunction(double leftX, double rightX, double[] values) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (values.length < 2)
+            throw new IllegalArgumentException("Количество значений функции в массиве values должно быть не меньше двух");
+
+        size = values.length;
+        xValues = new double[size];
+        yValues = new double[size];
+        double step = (rightX - leftX) / (size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            xValues[i] = leftX + i * step;
+        }
+        xValues[size - 1] = rightX;
+        uniform = true;
+        uniformStep = step;
+        System.arraycopy(values, 0, yValues, 0, size);
+    }
+
+    /**
+     * Создаёт табулированную функцию по массиву точек {@code points}.
+     *
+     * @param points массив точек функции (длина не менее двух, X строго возрастают)
+     * @throws IllegalArgumentException если массив содержит меньше двух точек или точки не упорядочены по координате X
+     */
+    public ConcurrentTabulatedFunction(FunctionPoint[] points) {
+        if (points.length < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+        for (int i = 0; i < points.length - 1; i++) {
+            if (points[i].getX() > points[i+1].getX() - 1e-10) {
+                throw new IllegalArgumentException("Точки в массиве должны быть упорядочены по координате X");
+            }
+        }
+
+        size = points.length;
+        xValues = new double[size];
+        yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = points[i].getX();
+            yValues[i] = points[i].getY();
+        }
+        detectUniformity();
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        long stamp = lock.tryOptimisticRead();
+        double leftX = readPointX(0);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                leftX = xValues[0];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return leftX;
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        long stamp = lock.tryOptimisticRead();
+        double rightX = readPointX(size - 1);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                rightX = xValues[size - 1];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return rightX;
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        long stamp = lock.tryOptimisticRead();
+        double value = computeValue(x, 0);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = computeValue(x, 0);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Вычисляет значения функции для массива аргументов.
+     * Весь массив вычисляется при одной оптимистичной проверке; для упорядоченных аргументов
+     * поиск отрезка начинается с отрезка предыдущего аргумента.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        // Если result совпадает с x, аргументы копируются: вычисление может повториться.
+        double[] arguments = result == x ? x.clone() : x;
+        long stamp = lock.tryOptimisticRead();
+        computeValues(arguments, result);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                computeValues(arguments, result);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    @Override
+    public int getPointsCount() {
+        long stamp = lock.tryOptimisticRead();
+        int count = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                count = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int count = size;
+        double pointX = readPointX(index);
+        double pointY = readPointY(index);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                checkIndexBounds(index);
+                return new FunctionPoint(xValues[index], yValues[index]);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        checkIndexBounds(index, count);
+        return new FunctionPoint(pointX, pointY);
+    }
+
+    @Override
+    public double getPointX(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int count = size;
+        double pointX = readPointX(index);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                checkIndexBounds(index);
+                return xValues[index];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        checkIndexBounds(index, count);
+        return pointX;
+    }
+
+    @Override
+    public double getPointY(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int count = size;
+        double pointY = readPointY(index);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                checkIndexBounds(index);
+                return yValues[index];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        checkIndexBounds(index, count);
+        return pointY;
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        long stamp = lock.writeLock();
+        try {
+            checkIndexBounds(index);
+            checkPointOrder(index, point.getX());
+            xValues[index] = point.getX();
+            yValues[index] = point.getY();
+            updateUniformity(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        long stamp = lock.writeLock();
+        try {
+            checkIndexBounds(index);
+            checkPointOrder(index, x);
+            xValues[index] = x;
+            updateUniformity(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndexBounds(index);
+            yValues[index] = y;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndexBounds(index);
+            if (size < 3) {
+                throw new IllegalStateException("Нельзя удалить точку из функции, содержащей меньше трёх точек.");
+            }
+            System.arraycopy(xValues, index + 1, xValues, index, size - index - 1);
+            System.arraycopy(yValues, index + 1, yValues, index, size - index - 1);
+            size--;
+            // Удаление крайней точки сохраняет равномерность сетки, удаление внутренней - нарушает.
+            if (index != 0 && index != size) {
+                uniform = false;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        double pointX = point.getX();
+        long stamp = lock.writeLock();
+        try {
+            int insertIndex = lowerBound(pointX);
+            // Точки упорядочены по X, поэтому совпадать с новой точкой могут только её будущие соседи.
+            if ((insertIndex < size && Math.abs(xValues[insertIndex] - pointX) < 1e-10)
+                    || (insertIndex > 0 && Math.abs(xValues[insertIndex - 1] - pointX) < 1e-10)) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+
+            ensureCapacity(size + 1);
+            // Точка, продолжающая равномерную сетку вправо, не нарушает её равномерности.
+            if (insertIndex < size || Math.abs(pointX - xValues[size - 1] - uniformStep) > uniformStep * 1e-9) {
+                uniform = false;
+            }
+            System.arraycopy(xValues, insertIndex, xValues, insertIndex + 1, size - insertIndex);
+            System.arraycopy(yValues, insertIndex, yValues, insertIndex + 1, size - insertIndex);
+            xValues[insertIndex] = pointX;
+            yValues[insertIndex] = point.getY();
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Добавляет в функцию сразу несколько точек за один проход слияния O(n + k log k)
+     * под одной блокировкой записи. Все точки проверяются до изменения функции.
+     *
+     * @param newPoints добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(newPoints);
+        long stamp = lock.writeLock();
+        try {
+            // Проверка всех точек до изменения функции: один проход навстречу точкам функции.
+            int i = 0;
+            for (FunctionPoint point : sortedPoints) {
+                double pointX = point.getX();
+                while (i < size && xValues[i] < pointX) {
+                    i++;
+                }
+                if ((i < size && Math.abs(xValues[i] - pointX) < 1e-10)
+                        || (i > 0 && Math.abs(xValues[i - 1] - pointX) < 1e-10)) {
+                    throw new InappropriateFunctionPointException(
+                            String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                    );
+                }
+            }
+
+            int newSize = size + sortedPoints.length;
+            ensureCapacity(newSize);
+            // Слияние с конца: каждая точка функции сдвигается не более одного раза.
+            int read = size - 1;
+            int write = newSize - 1;
+            for (int j = sortedPoints.length - 1; j >= 0; j--) {
+                double pointX = sortedPoints[j].getX();
+                while (read >= 0 && xValues[read] > pointX) {
+                    xValues[write] = xValues[read];
+                    yValues[write] = yValues[read];
+                    write--;
+                    read--;
+                }
+                xValues[write] = pointX;
+                yValues[write] = sortedPoints[j].getY();
+                write--;
+            }
+            size = newSize;
+            detectUniformity();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}],
+     * одним сдвигом оставшихся точек под одной блокировкой записи.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(fromX);
+            int to = from;
+            int high = size;
+            while (to < high) {
+                int mid = (to + high) >>> 1;
+                if (xValues[mid] <= toX) {
+                    to = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            int count = to - from;
+            if (size - count < 2) {
+                throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+            }
+            System.arraycopy(xValues, to, xValues, from, size - to);
+            System.arraycopy(yValues, to, yValues, from, size - to);
+            // Удаление точек с края сохраняет равномерность сетки, удаление внутренних - нарушает.
+            if (from != 0 && to != size) {
+                uniform = false;
+            }
+            size -= count;
+            return count;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Вычисляет точное значение интеграла функции по отрезку [{@code leftX}; {@code rightX}]
+     * под блокировкой чтения, поэтому результат соответствует одному согласованному состоянию функции.
+     *
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @return значение интеграла
+     * @throws IllegalArgumentException если {@code leftX > rightX} или отрезок выходит за область определения функции
+     */
+    @Override
+    public double integrate(double leftX, double rightX) {
+        long stamp = lock.readLock();
+        try {
+            TabulatedFunctions.checkIntegrationRange(leftX, rightX, xValues[0], xValues[size - 1]);
+            int i = lowerBound(leftX);
+            if (i < size && xValues[i] <= leftX) {
+                i++;
+            }
+            double integral = 0.0;
+            double x1 = leftX;
+            double y1 = computeValue(leftX, i);
+            for (; i < size && xValues[i] < rightX; i++) {
+                double x2 = xValues[i];
+                double y2 = yValues[i];
+                integral += (y1 + y2) * (x2 - x1) / 2.0;
+                x1 = x2;
+                y1 = y2;
+            }
+            integral += (y1 + computeValue(rightX, i)) * (rightX - x1) / 2.0;
+            return integral;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Возвращает новый курсор для последовательного вычисления значений функции.
+     * Курсор читает функцию оптимистично, как и {@link #getFunctionValue(double)},
+     * и начинает поиск отрезка с запомненного, поэтому остаётся корректным при изменениях функции.
+     *
+     * @return курсор функции
+     */
+    @Override
+    public TabulatedFunctionCursor cursor() {
+        return new TabulatedFunctionCursor() {
+            private int segmentEnd = 1;
+
+            @Override
+            public double getFunctionValue(double x) {
+                long stamp = lock.tryOptimisticRead();
+                int i = findSegmentEnd(x, segmentEnd);
+                double value = interpolate(x, i);
+                if (!lock.validate(stamp)) {
+                    stamp = lock.readLock();
+                    try {
+                        i = findSegmentEnd(x, segmentEnd);
+                        value = interpolate(x, i);
+                    } finally {
+                        lock.unlockRead(stamp);
+                    }
+                }
+                if (i > 0) {
+                    segmentEnd = i;
+                }
+                return value;
+            }
+
+            @Override
+            public double getLeftDomainBorder() {
+                return ConcurrentTabulatedFunction.this.getLeftDomainBorder();
+            }
+
+            @Override
+            public double getRightDomainBorder() {
+                return ConcurrentTabulatedFunction.this.getRightDomainBorder();
+            }
+
+            @Override
+            public void reset() {
+                segmentEnd = 1;
+            }
+        };
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}.
+     * Обход выполняется по согласованному снимку координат, поэтому получатель
+     * может изменять функцию, не вызывая взаимной блокировки.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        double[][] snapshot = snapshot();
+        for (int i = 0; i < snapshot[0].length; i++) {
+            action.accept(i, snapshot[0][i], snapshot[1][i]);
+        }
+    }
+
+    /**
+     * Возвращает разделяемый итератор по копии точек, сделанной в момент вызова,
+     * поэтому параллельная обработка не зависит от последующих изменений функции.
+     *
+     * @return разделяемый итератор по точкам функции
+     */
+    @Override
+    public Spliterator<FunctionPoint> spliterator() {
+        ConcurrentTabulatedFunction copy = (ConcurrentTabulatedFunction) clone();
+        return new IndexPointSpliterator(copy, 0, copy.size);
+    }
+
+    /**
+     * Возвращает поток координат X копии точек, сделанной в момент вызова.
+     *
+     * @return поток координат X
+     */
+    @Override
+    public DoubleStream xStream() {
+        ConcurrentTabulatedFunction copy = (ConcurrentTabulatedFunction) clone();
+        return StreamSupport.doubleStream(new IndexCoordinateSpliterator(copy, false, 0, copy.size), false);
+    }
+
+    /**
+     * Возвращает поток координат Y копии точек, сделанной в момент вызова.
+     *
+     * @return поток координат Y
+     */
+    @Override
+    public DoubleStream yStream() {
+        ConcurrentTabulatedFunction copy = (ConcurrentTabulatedFunction) clone();
+        return StreamSupport.doubleStream(new IndexCoordinateSpliterator(copy, true, 0, copy.size), false);
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    /**
+     * Возвращает итератор по снимку точек, сделанному в момент вызова.
+     * Последующие изменения функции итератор не видит.
+     *
+     * @return итератор по точкам функции
+     */
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        double[][] snapshot = snapshot();
+        double[] snapshotX = snapshot[0];
+        double[] snapshotY = snapshot[1];
+        return new Iterator<FunctionPoint>() {
+            private int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < snapshotX.length;
+            }
+            @Override
+            public FunctionPoint next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Нет следующего элемента");
+                }
+                FunctionPoint point = new FunctionPoint(snapshotX[index], snapshotY[index]);
+                index++;
+                return point;
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Удаление не поддерживается");
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Возвращает строковое представление табулированной функции.
+     *
+     * @return строковое представление функции
+     */
+    @Override
+    public String toString() {
+        double[][] snapshot = snapshot();
+        int count = snapshot[0].length;
+        StringBuilder sb = new StringBuilder("{");
+
+        for (int i = 0; i < count; i++) {
+            sb.append('(').append(snapshot[0][i]).append("; ").append(snapshot[1][i]).append(')');
+            if (i < count - 1) {
+                sb.append(", ");
+            }
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Сравнивает текущую функцию с другим объектом.
+     * Функции считаются равными, если совпадает количество точек
+     * и все соответствующие точки равны.
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если функции равны, иначе {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TabulatedFunction other)) {
+            return false;
+        }
+
+        double[][] snapshot = snapshot();
+        int count = snapshot[0].length;
+        if (count != other.getPointsCount()) {
+            return false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (Math.abs(snapshot[0][i] - other.getPointX(i)) >= 1e-10
+                    || Math.abs(snapshot[1][i] - other.getPointY(i)) >= 1e-10) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Возвращает хэш-код табулированной функции.
+     * Совпадает с хэш-кодом {@link ArrayTabulatedFunction} с теми же точками.
+     *
+     * @return хэш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        double[][] snapshot = snapshot();
+        int count = snapshot[0].length;
+        int hash = count;
+
+        for (int i = 0; i < count; i++) {
+            hash ^= Long.hashCode(Double.doubleToLongBits(snapshot[0][i])) ^ Long.hashCode(Double.doubleToLongBits(snapshot[1][i]));
+        }
+
+        return hash;
+    }
+
+    /**
+     * Создаёт и возвращает глубокую копию табулированной функции
+     * с собственной блокировкой.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        ConcurrentTabulatedFunction clone = new ConcurrentTabulatedFunction();
+        long stamp = lock.readLock();
+        try {
+            clone.size = size;
+            clone.xValues = Arrays.copyOf(xValues, size);
+            clone.yValues = Arrays.copyOf(yValues, size);
+            clone.uniform = uniform;
+            clone.uniformStep = uniformStep;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        return clone;
+    }
+
+    // ────────────────────────────
+    // Методы для сериализации
+    // ────────────────────────────
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        double[][] snapshot = snapshot();
+        out.writeInt(snapshot[0].length);
+        for (int i = 0; i < snapshot[0].length; i++) {
+            out.writeDouble(snapshot[0][i]);
+            out.writeDouble(snapshot[1][i]);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int count = in.readInt();
+        double[] newX = new double[count];
+        double[] newY = new double[count];
+        for (int i = 0; i < count; i++) {
+            newX[i] = in.readDouble();
+            newY[i] = in.readDouble();
+        }
+        long stamp = lock.writeLock();
+        try {
+            size = count;
+            xValues = newX;
+            yValues = newY;
+            detectUniformity();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Методы, вызываемые при оптимистичном чтении, могут увидеть массивы и размер в середине записи.
+    // Поэтому они читают поля один раз, не выходят за границы массивов и не выбрасывают исключений:
+    // неверный результат такого чтения отбрасывается после проверки StampedLock.validate.
+
+    // Вычисляет значение функции в точке x, начиная поиск отрезка с отрезка [hint - 1; hint] при hint > 0.
+    private double computeValue(double x, int hint) {
+        return interpolate(x, findSegmentEnd(x, hint));
+    }
+
+    // Вычисляет значения функции для массива аргументов, начиная поиск каждого отрезка с предыдущего.
+    private void computeValues(double[] x, double[] result) {
+        int hint = 0;
+        for (int k = 0; k < x.length; k++) {
+            int i = findSegmentEnd(x[k], hint);
+            result[k] = interpolate(x[k], i);
+            if (i > 0) {
+                hint = i;
+            }
+        }
+    }
+
+    // Возвращает индекс i (1 <= i < size) первой точки, для которой x <= x[i] + 1e-10,
+    // или 0, если x не лежит в области определения. Если задан индекс hint > 0, поиск начинается с него:
+    // если x лежит рядом, отрезок находится за несколько шагов, иначе - за O(1) на равномерной сетке
+    // или двоичным поиском.
+    private int findSegmentEnd(double x, int hint) {
+        double[] xs = xValues;
+        int count = Math.min(size, Math.min(xs.length, yValues.length));
+        if (count < 2 || !(x >= xs[0] && x <= xs[count - 1])) {
+            return 0;
+        }
+        int i;
+        int steps;
+        if (hint > 0) {
+            i = Math.min(hint, count - 1);
+            steps = 0;
+            while (i < count - 1 && x > xs[i] + 1e-10 && steps < CURSOR_WALK_LIMIT) {
+                i++;
+                steps++;
+            }
+            while (i > 1 && x <= xs[i - 1] + 1e-10 && steps < CURSOR_WALK_LIMIT) {
+                i--;
+                steps++;
+            }
+            if (steps < CURSOR_WALK_LIMIT) {
+                return i;
+            }
+        }
+        double step = uniformStep;
+        if (uniform && step > 0) {
+            double index = (x - xs[0]) / step + 1;
+            i = index < 1 ? 1 : index > count - 1 ? count - 1 : (int) index;
+            // Поправка на погрешность округления при вычислении индекса.
+            steps = 0;
+            while (i > 1 && x <= xs[i - 1] + 1e-10 && steps < CURSOR_WALK_LIMIT) {
+                i--;
+                steps++;
+            }
+            while (i < count - 1 && x > xs[i] + 1e-10 && steps < CURSOR_WALK_LIMIT) {
+                i++;
+                steps++;
+            }
+            if (steps < CURSOR_WALK_LIMIT) {
+                return i;
+            }
+        }
+        int low = 1;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= xs[mid] + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Интерполирует значение функции на отрезке [i - 1; i]; при i = 0 возвращает NaN.
+    private double interpolate(double x, int i) {
+        double[] xs = xValues;
+        double[] ys = yValues;
+        if (i < 1 || i >= xs.length || i >= ys.length) {
+            return Double.NaN;
+        }
+        double x2 = xs[i];
+        if (Math.abs(x - x2) < 1e-10) {
+            return ys[i];
+        }
+        double y1 = ys[i - 1];
+        double y2 = ys[i];
+        double x1 = xs[i - 1];
+        return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+    }
+
+    // Читает координату X точки без проверки индекса; вне массива возвращает NaN.
+    private double readPointX(int index) {
+        double[] xs = xValues;
+        return index >= 0 && index < xs.length ? xs[index] : Double.NaN;
+    }
+
+    // Читает координату Y точки без проверки индекса; вне массива возвращает NaN.
+    private double readPointY(int index) {
+        double[] ys = yValues;
+        return index >= 0 && index < ys.length ? ys[index] : Double.NaN;
+    }
+
+    // Возвращает согласованную копию координат точек: массивы X и Y длины size.
+    private double[][] snapshot() {
+        long stamp = lock.readLock();
+        try {
+            return new double[][] {Arrays.copyOf(xValues, size), Arrays.copyOf(yValues, size)};
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Двоичный поиск первой точки с координатой X не меньше x. Вызывается под блокировкой.
+    private int lowerBound(double x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xValues[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Увеличивает массивы так, чтобы в них поместилось capacity точек. Вызывается под блокировкой записи.
+    private void ensureCapacity(int capacity) {
+        if (capacity > xValues.length) {
+            int newLength = Math.max(capacity, size * 2);
+            double[] tempX = new double[newLength];
+            double[] tempY = new double[newLength];
+            System.arraycopy(xValues, 0, tempX, 0, size);
+            System.arraycopy(yValues, 0, tempY, 0, size);
+            xValues = tempX;
+            yValues = tempY;
+        }
+    }
+
+    // Проверяет, образуют ли координаты X точек равномерную сетку.
+    private void detectUniformity() {
+        uniformStep = (xValues[size - 1] - xValues[0]) / (size - 1);
+        uniform = true;
+        for (int i = 1; i < size - 1; i++) {
+            if (Math.abs(xValues[i] - (xValues[0] + i * uniformStep)) > uniformStep * 1e-9) {
+                uniform = false;
+                return;
+            }
+        }
+    }
+
+    // Обновляет признак равномерности после изменения координаты X точки с индексом index.
+    private void updateUniformity(int index) {
+        if (uniform && (index == 0 || index == size - 1
+                || Math.abs(xValues[index] - (xValues[0] + index * uniformStep)) > uniformStep * 1e-9)) {
+            uniform = false;
+        }
+    }
+
+    // Метод для проверки корректности индекса.
+    // (0 <= index < size)
+    private void checkIndexBounds(int index) {
+        checkIndexBounds(index, size);
+    }
+
+    // Проверка индекса по количеству точек count, прочитанному при оптимистичном чтении.
+    private static void checkIndexBounds(int index, int count) {
+        if (index < 0 || index >= count) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Индекс точки должен быть не меньше нуля и меньше количества точек в функции. (На данный момент количество точек в функции - %d)", count)
+            );
+        }
+    }
+
+    // Метод для проверки корректности координаты X точки массива с индексом index при попытке её изменения.
+    // (новая координата X не должна выходить за границы координат X соседних точек)
+    private void checkPointOrder(int index, double pointX) throws InappropriateFunctionPointException {
+        if (index == 0) {
+            if (pointX >= xValues[1] - 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x должна быть меньше %.2f (при индексе %d)", xValues[index + 1], index)
+                );
+            }
+        } else if (index == size - 1) {
+            if (pointX <= xValues[index - 1] + 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x должна быть больше %.2f (при индексе %d)", xValues[index - 1], index)
+                );
+            }
+        } else if (pointX <= xValues[index - 1] + 1e-10 || pointX >= xValues[index + 1] - 1e-10) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Координата x должна лежать между %.2f и %.2f (при индексе %d)", xValues[index - 1], xValues[index + 1], index)
+            );
+        }
+    }
+}
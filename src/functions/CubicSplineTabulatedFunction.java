@@ -0,0 +1,446 @@
+package functions;
+
+import java.io.*;
+
+/**
+ * Табулированная функция, значения которой между точками вычисляются
+ * кубическим сплайном, а не линейной интерполяцией.
+ * <p>
+ * Точки хранятся так же, как в {@link DoubleArrayTabulatedFunction}. Коэффициенты сплайна
+ * вычисляются один раз за O(n) методом прогонки для трёхдиагональной системы и
+ * пересчитываются лениво - при первом вычислении значения после изменения точек.
+ * Для гладких функций сплайн даёт ту же точность, что и линейная интерполяция,
+ * на сетке в десятки раз меньшего размера.
+ * <p>
+ * По умолчанию строится естественный сплайн (вторые производные на концах равны нулю).
+ * Методом {@link #setClampedBoundary(double, double)} можно задать первые производные на концах.
+ */
+public class CubicSplineTabulatedFunction extends DoubleArrayTabulatedFunction {
+
+    public static class CubicSplineTabulatedFunctionFactory implements TabulatedFunctionFactory {
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, int pointsCount) {
+            return new CubicSplineTabulatedFunction(leftX, rightX, pointsCount);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, double[] values) {
+            return new CubicSplineTabulatedFunction(leftX, rightX, values);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(FunctionPoint[] points) {
+            return new CubicSplineTabulatedFunction(points);
+        }
+    }
+
+    // Количество шагов курсора по соседним отрезкам, после которого поиск продолжается двоичным поиском.
+    private static final int CURSOR_WALK_LIMIT = 8;
+
+    // Граничные условия: для закреплённого сплайна заданы первые производные на концах,
+    // для естественного вторые производные на концах равны нулю.
+    private boolean clamped;
+    private double leftDerivative;
+    private double rightDerivative;
+
+    // Копия точек и коэффициенты сплайна на момент последнего пересчёта.
+    // На отрезке [i - 1; i] значение равно knotsY[i - 1] + t * (b[i] + t * (c[i] + t * d[i])), где t = x - knotsX[i - 1].
+    // Пока коэффициенты не вычислены или устарели, knotsX равен null.
+    private double[] knotsX;
+    private double[] knotsY;
+    private double[] b;
+    private double[] c;
+    private double[] d;
+
+    // Конструктор без параметров для сериализации.
+    public CubicSplineTabulatedFunction() {}
+
+    /**
+     * Создаёт сплайн с равномерной сеткой и нулевыми значениями.
+     *
+     * @param leftX       левая граница области определения (меньше правой)
+     * @param rightX      правая граница области определения
+     * @param pointsCount количество точек табулирования (не менее двух)
+     * @throws IllegalArgumentException если левая граница >= правой или точек < 2
+     */
+    public CubicSplineTabulatedFunction(double leftX, double rightX, int pointsCount) {
+        super(leftX, rightX, pointsCount);
+    }
+
+    /**
+     * Создаёт сплайн с равномерной сеткой и заданными значениями.
+     *
+     * @param leftX  левая граница области определения (меньше правой)
+     * @param rightX правая граница области определения
+     * @param values значения функции в точках табулирования (не менее двух)
+     * @throws IllegalArgumentException если границы некорректны или значений < 2
+     */
+    public CubicSplineTabulatedFunction(double leftX, double rightX, double[] values) {
+        super(leftX, rightX, values);
+    }
+
+    /**
+     * Создаёт сплайн по массиву точек {@code points}.
+     *
+     * @param points массив точек функции (длина не менее двух, X строго возрастают)
+     * @throws IllegalArgumentException если массив содержит меньше двух точек или точки не упорядочены по координате X
+     */
+    public CubicSplineTabulatedFunction(FunctionPoint[] points) {
+        super(points);
+    }
+
+    /**
+     * Делает сплайн естественным: вторые производные на концах равны нулю.
+     */
+    public void setNaturalBoundary() {
+        clamped = false;
+        invalidateCoefficients();
+    }
+
+    /**
+     * Делает сплайн закреплённым: задаёт первые производные на концах области определения.
+     *
+     * @param leftDerivative  производная на левой границе
+     * @param rightDerivative производная на правой границе
+     */
+    public void setClampedBoundary(double leftDerivative, double rightDerivative) {
+        clamped = true;
+        this.leftDerivative = leftDerivative;
+        this.rightDerivative = rightDerivative;
+        invalidateCoefficients();
+    }
+
+    /**
+     * Возвращает {@code true}, если на концах заданы первые производные,
+     * и {@code false} для естественного сплайна.
+     *
+     * @return признак закреплённого сплайна
+     */
+    public boolean isClamped() {
+        return clamped;
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        if (x >= getLeftDomainBorder() && x <= getRightDomainBorder()) {
+            ensureCoefficients();
+            return evaluate(x, findSegmentEnd(x, 1, knotsX.length - 1));
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Вычисляет значения сплайна для массива аргументов.
+     * Если аргументы упорядочены по возрастанию, отрезки находятся
+     * одним проходом навстречу точкам функции, иначе значения вычисляются по одному.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        if (!TabulatedFunctions.isNonDecreasing(x)) {
+            for (int k = 0; k < x.length; k++) {
+                result[k] = getFunctionValue(x[k]);
+            }
+            return;
+        }
+        ensureCoefficients();
+        int last = knotsX.length - 1;
+        double leftX = knotsX[0];
+        double rightX = knotsX[last];
+        int i = 1;
+        for (int k = 0; k < x.length; k++) {
+            double xk = x[k];
+            if (xk < leftX || xk > rightX) {
+                result[k] = Double.NaN;
+                continue;
+            }
+            if (xk > knotsX[i] + 1e-10) {
+                i++;
+                if (xk > knotsX[i] + 1e-10) {
+                    i = findSegmentEnd(xk, i, last);
+                }
+            }
+            result[k] = evaluate(xk, i);
+        }
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        super.setPoint(index, point);
+        invalidateCoefficients();
+    }
+
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        super.setPointX(index, x);
+        invalidateCoefficients();
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        super.setPointY(index, y);
+        invalidateCoefficients();
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        super.deletePoint(index);
+        invalidateCoefficients();
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        super.addPoint(point);
+        invalidateCoefficients();
+    }
+
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        super.addPoints(newPoints);
+        invalidateCoefficients();
+    }
+
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        int count = super.removePointsInRange(fromX, toX);
+        if (count > 0) {
+            invalidateCoefficients();
+        }
+        return count;
+    }
+
+    /**
+     * Вычисляет точное значение интеграла сплайна по отрезку [{@code leftX}; {@code rightX}]:
+     * на каждом отрезке между точками интегрируется кубический многочлен сплайна.
+     *
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @return значение интеграла
+     * @throws IllegalArgumentException если {@code leftX > rightX} или отрезок выходит за область определения функции
+     */
+    @Override
+    public double integrate(double leftX, double rightX) {
+        TabulatedFunctions.checkIntegrationRange(leftX, rightX, getLeftDomainBorder(), getRightDomainBorder());
+        ensureCoefficients();
+        int last = knotsX.length - 1;
+        int first = findSegmentEnd(leftX, 1, last);
+        int end = findSegmentEnd(rightX, first, last);
+        if (first == end) {
+            return antiderivative(first, rightX) - antiderivative(first, leftX);
+        }
+        double integral = antiderivative(first, knotsX[first]) - antiderivative(first, leftX);
+        for (int i = first + 1; i < end; i++) {
+            integral += antiderivative(i, knotsX[i]);
+        }
+        integral += antiderivative(end, rightX);
+        return integral;
+    }
+
+    /**
+     * Возвращает курсор, вычисляющий значения сплайна.
+     * Курсор запоминает последний отрезок и начинает поиск следующего с него.
+     *
+     * @return новый курсор
+     */
+    @Override
+    public TabulatedFunctionCursor cursor() {
+        return new TabulatedFunctionCursor() {
+            private int segmentEnd = 1;
+
+            @Override
+            public double getFunctionValue(double x) {
+                if (!(x >= getLeftDomainBorder() && x <= getRightDomainBorder())) {
+                    return Double.NaN;
+                }
+                ensureCoefficients();
+                int last = knotsX.length - 1;
+                int i = Math.min(segmentEnd, last);
+                int steps = 0;
+                while (x > knotsX[i] + 1e-10) {
+                    i++;
+                    if (++steps == CURSOR_WALK_LIMIT) {
+                        i = findSegmentEnd(x, i, last);
+                        break;
+                    }
+                }
+                while (i > 1 && x <= knotsX[i - 1] + 1e-10) {
+                    i--;
+                    if (++steps == CURSOR_WALK_LIMIT) {
+                        i = findSegmentEnd(x, 1, i);
+                        break;
+                    }
+                }
+                segmentEnd = i;
+                return evaluate(x, i);
+            }
+
+            @Override
+            public double getLeftDomainBorder() {
+                return CubicSplineTabulatedFunction.this.getLeftDomainBorder();
+            }
+
+            @Override
+            public double getRightDomainBorder() {
+                return CubicSplineTabulatedFunction.this.getRightDomainBorder();
+            }
+
+            @Override
+            public void reset() {
+                segmentEnd = 1;
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Создаёт и возвращает глубокую копию сплайна вместе с граничными условиями.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        FunctionPoint[] points = new FunctionPoint[getPointsCount()];
+        forEachPoint((index, x, y) -> points[index] = new FunctionPoint(x, y));
+        CubicSplineTabulatedFunction clone = new CubicSplineTabulatedFunction(points);
+        clone.clamped = clamped;
+        clone.leftDerivative = leftDerivative;
+        clone.rightDerivative = rightDerivative;
+        clone.setSlopeCacheEnabled(isSlopeCacheEnabled());
+        return clone;
+    }
+
+    // ────────────────────────────
+    // Методы для сериализации
+    // ────────────────────────────
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+        out.writeBoolean(clamped);
+        out.writeDouble(leftDerivative);
+        out.writeDouble(rightDerivative);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+        clamped = in.readBoolean();
+        leftDerivative = in.readDouble();
+        rightDerivative = in.readDouble();
+        invalidateCoefficients();
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Помечает коэффициенты сплайна устаревшими: они будут вычислены заново при следующем обращении.
+    private void invalidateCoefficients() {
+        knotsX = null;
+    }
+
+    // Вычисляет коэффициенты сплайна, если они устарели.
+    // Вторые производные M[i] в точках находятся методом прогонки за O(n):
+    // h[i-1] M[i-1] + 2 (h[i-1] + h[i]) M[i] + h[i] M[i+1] = 6 (s[i] - s[i-1]), где s[i] - наклон отрезка [i; i + 1].
+    private void ensureCoefficients() {
+        if (knotsX != null) {
+            return;
+        }
+        int n = getPointsCount();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        forEachPoint((index, x, y) -> {
+            xs[index] = x;
+            ys[index] = y;
+        });
+
+        double[] h = new double[n - 1];
+        double[] s = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            h[i] = xs[i + 1] - xs[i];
+            s[i] = (ys[i + 1] - ys[i]) / h[i];
+        }
+
+        // Прямой ход прогонки: diag - диагональ после исключения, rhs - правая часть.
+        // Для естественного сплайна M[0] = M[n-1] = 0 и система состоит из внутренних уравнений.
+        double[] m = new double[n];
+        double[] diag = new double[n];
+        double[] rhs = new double[n];
+        int first = clamped ? 0 : 1;
+        int last = clamped ? n - 1 : n - 2;
+        for (int i = first; i <= last; i++) {
+            double lower;
+            if (i == 0) {
+                lower = 0;
+                diag[i] = 2 * h[0];
+                rhs[i] = 6 * (s[0] - leftDerivative);
+            } else if (i == n - 1) {
+                lower = h[n - 2];
+                diag[i] = 2 * h[n - 2];
+                rhs[i] = 6 * (rightDerivative - s[n - 2]);
+            } else {
+                lower = h[i - 1];
+                diag[i] = 2 * (h[i - 1] + h[i]);
+                rhs[i] = 6 * (s[i] - s[i - 1]);
+            }
+            // Наддиагональный элемент уравнения i - 1 равен h[i - 1] и при исключении не меняется.
+            if (i > first) {
+                double factor = lower / diag[i - 1];
+                diag[i] -= factor * h[i - 1];
+                rhs[i] -= factor * rhs[i - 1];
+            }
+        }
+        // Обратный ход прогонки.
+        for (int i = last; i >= first; i--) {
+            m[i] = (rhs[i] - (i < last ? h[i] * m[i + 1] : 0)) / diag[i];
+        }
+
+        double[] newB = new double[n];
+        double[] newC = new double[n];
+        double[] newD = new double[n];
+        for (int i = 1; i < n; i++) {
+            double hi = h[i - 1];
+            newB[i] = s[i - 1] - hi * (2 * m[i - 1] + m[i]) / 6;
+            newC[i] = m[i - 1] / 2;
+            newD[i] = (m[i] - m[i - 1]) / (6 * hi);
+        }
+        knotsY = ys;
+        b = newB;
+        c = newC;
+        d = newD;
+        knotsX = xs;
+    }
+
+    // Вычисляет значение сплайна на отрезке [i - 1; i]. В точке табулирования возвращается её ордината.
+    private double evaluate(double x, int i) {
+        if (Math.abs(x - knotsX[i]) < 1e-10) {
+            return knotsY[i];
+        }
+        double t = x - knotsX[i - 1];
+        return knotsY[i - 1] + t * (b[i] + t * (c[i] + t * d[i]));
+    }
+
+    // Вычисляет интеграл многочлена сплайна на отрезке [i - 1; i] от его левого конца до x.
+    private double antiderivative(int i, double x) {
+        double t = x - knotsX[i - 1];
+        return t * (knotsY[i - 1] + t * (b[i] / 2 + t * (c[i] / 3 + t * d[i] / 4)));
+    }
+
+    // Двоичный поиск первой точки с индексом из [low; high], для которой x <= x[i] + 1e-10.
+    private int findSegmentEnd(double x, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= knotsX[mid] + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,737 @@
+package functions;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+
+/**
+ * Класс для работы с табулированными функциями одной переменной,
+ * хранящий координаты точек вне кучи Java в прямых буферах ({@link ByteBuffer#allocateDirect(int)}).
+ * <p>
+ * Данные функции не просматриваются сборщиком мусора, что позволяет держать в памяти
+ * таблицы размером в несколько гигабайт без длительных пауз. Координаты X и Y хранятся
+ * в отдельных буферах, поэтому количество точек ограничено {@value #MAX_POINTS_COUNT}.
+ * <p>
+ * Время жизни памяти задаётся явно: {@link #close()} сразу возвращает память буферов системе
+ * через {@code sun.misc.Unsafe.invokeCleaner} из модуля {@code jdk.unsupported}, после чего любое
+ * обращение к функции выбрасывает {@link IllegalStateException}. Если этот метод недоступен, память
+ * освобождается позже, когда сборщик мусора удалит объекты буферов; до этого она учитывается
+ * в ограничении {@code -XX:MaxDirectMemorySize}. Буферы, заменённые при увеличении ёмкости,
+ * освобождаются так же. Функция не должна закрываться, пока другой поток обращается к ней:
+ * чтение освобождённой памяти приводит к аварийному завершению JVM.
+ */
+public class DirectBufferTabulatedFunction implements TabulatedFunction, Externalizable, AutoCloseable {
+
+    public static class DirectBufferTabulatedFunctionFactory implements TabulatedFunctionFactory {
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, int pointsCount) {
+            return new DirectBufferTabulatedFunction(leftX, rightX, pointsCount);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, double[] values) {
+            return new DirectBufferTabulatedFunction(leftX, rightX, values);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(FunctionPoint[] points) {
+            return new DirectBufferTabulatedFunction(points);
+        }
+    }
+
+    /**
+     * Максимальное количество точек: размер одного прямого буфера не может превышать 2 ГБ.
+     */
+    public static final int MAX_POINTS_COUNT = Integer.MAX_VALUE / Double.BYTES;
+
+    // Метод sun.misc.Unsafe.invokeCleaner и экземпляр Unsafe для немедленного освобождения памяти буферов;
+    // null, если модуль jdk.unsupported недоступен.
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Память будет освобождена сборщиком мусора.
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    // Исходные прямые буферы: освобождать можно только их, а не представления DoubleBuffer.
+    private ByteBuffer xBytes;
+    private ByteBuffer yBytes;
+    private DoubleBuffer xBuffer;
+    private DoubleBuffer yBuffer;
+    private int size;
+    private boolean closed;
+    // Признак равномерной сетки: позволяет находить отрезок за O(1) вместо двоичного поиска.
+    private boolean uniform;
+    private double uniformStep;
+
+    // Конструктор без параметров для сериализации.
+    public DirectBufferTabulatedFunction() {}
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и нулевыми значениями.
+     *
+     * @param leftX       левая граница области определения (меньше правой)
+     * @param rightX      правая граница области определения
+     * @param pointsCount количество точек табулирования (не менее двух)
+     * @throws IllegalArgumentException если левая граница >= правой или точек < 2
+     */
+    public DirectBufferTabulatedFunction(double leftX, double rightX, int pointsCount) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (pointsCount < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+
+        allocate(pointsCount);
+        size = pointsCount;
+        double step = (rightX - leftX) / (size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            xBuffer.put(i, leftX + i * step);
+            yBuffer.put(i, 0);
+        }
+        xBuffer.put(size - 1, rightX);
+        yBuffer.put(size - 1, 0);
+        uniform = true;
+        uniformStep = step;
+    }
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и заданными значениями.
+     *
+     * @param leftX  левая граница области определения (меньше правой)
+     * @param rightX правая граница области определения
+     * @param values значения функции в точках табулирования (не менее двух)
+     * @throws IllegalArgumentException если границы некорректны или значений < 2
+     */
+    public DirectBufferTabulatedFunction(double leftX, double rightX, double[] values) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (values.length < 2)
+            throw new IllegalArgumentException("Количество значений функции в массиве values должно быть не меньше двух");
+
+        allocate(values.length);
+        size = values.length;
+        double step = (rightX - leftX) / (size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            xBuffer.put(i, leftX + i * step);
+        }
+        xBuffer.put(size - 1, rightX);
+        yBuffer.put(0, values);
+        uniform = true;
+        uniformStep = step;
+    }
+
+    /**
+     * Создаёт табулированную функцию по массиву точек {@code points}.
+     *
+     * @param points массив точек функции (длина не менее двух, X строго возрастают)
+     * @throws IllegalArgumentException если массив содержит меньше двух точек или точки не упорядочены по координате X
+     */
+    public DirectBufferTabulatedFunction(FunctionPoint[] points) {
+        if (points.length < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+        for (int i = 0; i < points.length - 1; i++) {
+            if (points[i].getX() > points[i+1].getX() - 1e-10) {
+                throw new IllegalArgumentException("Точки в массиве должны быть упорядочены по координате X");
+            }
+        }
+
+        allocate(points.length);
+        size = points.length;
+        for (int i = 0; i < size; i++) {
+            xBuffer.put(i, points[i].getX());
+            yBuffer.put(i, points[i].getY());
+        }
+        detectUniformity();
+    }
+
+    /**
+     * Освобождает буферы функции и сразу возвращает их память системе
+     * (если {@code sun.misc.Unsafe.invokeCleaner} недоступен - когда на буферы не остаётся ссылок).
+     * Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ByteBuffer oldX = xBytes;
+        ByteBuffer oldY = yBytes;
+        xBytes = null;
+        yBytes = null;
+        xBuffer = null;
+        yBuffer = null;
+        size = 0;
+        release(oldX);
+        release(oldY);
+    }
+
+    /**
+     * Проверяет, закрыта ли функция.
+     *
+     * @return {@code true}, если был вызван {@link #close()}
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        checkOpen();
+        return xBuffer.get(0);
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        checkOpen();
+        return xBuffer.get(size - 1);
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        if (x >= getLeftDomainBorder() && x <= getRightDomainBorder()) {
+            int i = findSegmentEnd(x);
+            double x2 = xBuffer.get(i);
+            if (Math.abs(x - x2) < 1e-10) {
+                return yBuffer.get(i);
+            }
+            double y1 = yBuffer.get(i - 1);
+            double y2 = yBuffer.get(i);
+            double x1 = xBuffer.get(i - 1);
+            return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public int getPointsCount() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        checkIndexBounds(index);
+        return new FunctionPoint(xBuffer.get(index), yBuffer.get(index));
+    }
+
+    @Override
+    public double getPointX(int index) {
+        checkIndexBounds(index);
+        return xBuffer.get(index);
+    }
+
+    @Override
+    public double getPointY(int index) {
+        checkIndexBounds(index);
+        return yBuffer.get(index);
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        checkIndexBounds(index);
+        checkPointOrder(index, point.getX());
+        xBuffer.put(index, point.getX());
+        yBuffer.put(index, point.getY());
+        updateUniformity(index);
+    }
+
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        checkIndexBounds(index);
+        checkPointOrder(index, x);
+        xBuffer.put(index, x);
+        updateUniformity(index);
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        checkIndexBounds(index);
+        yBuffer.put(index, y);
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        checkIndexBounds(index);
+        if (size < 3) {
+            throw new IllegalStateException("Нельзя удалить точку из функции, содержащей меньше трёх точек.");
+        }
+        xBuffer.put(index, xBuffer, index + 1, size - index - 1);
+        yBuffer.put(index, yBuffer, index + 1, size - index - 1);
+        size--;
+        // Удаление крайней точки сохраняет равномерность сетки, удаление внутренней - нарушает.
+        if (index != 0 && index != size) {
+            uniform = false;
+        }
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        checkOpen();
+        double pointX = point.getX();
+
+        // Двоичный поиск первой точки с координатой X не меньше pointX.
+        int insertIndex = 0;
+        int high = size;
+        while (insertIndex < high) {
+            int mid = (insertIndex + high) >>> 1;
+            if (xBuffer.get(mid) < pointX) {
+                insertIndex = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // Точки упорядочены по X, поэтому совпадать с новой точкой могут только её будущие соседи.
+        if ((insertIndex < size && Math.abs(xBuffer.get(insertIndex) - pointX) < 1e-10)
+                || (insertIndex > 0 && Math.abs(xBuffer.get(insertIndex - 1) - pointX) < 1e-10)) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+            );
+        }
+
+        if (size == xBuffer.capacity()) {
+            if (size == MAX_POINTS_COUNT) {
+                throw new IllegalStateException("Достигнуто максимальное количество точек функции");
+            }
+            ByteBuffer oldXBytes = xBytes;
+            ByteBuffer oldYBytes = yBytes;
+            DoubleBuffer oldX = xBuffer;
+            DoubleBuffer oldY = yBuffer;
+            allocate((int) Math.min((long) size * 2, MAX_POINTS_COUNT));
+            xBuffer.put(0, oldX, 0, size);
+            yBuffer.put(0, oldY, 0, size);
+            release(oldXBytes);
+            release(oldYBytes);
+        }
+
+        // Точка, продолжающая равномерную сетку вправо, не нарушает её равномерности.
+        if (insertIndex < size || Math.abs(pointX - xBuffer.get(size - 1) - uniformStep) > uniformStep * 1e-9) {
+            uniform = false;
+        }
+        xBuffer.put(insertIndex + 1, xBuffer, insertIndex, size - insertIndex);
+        yBuffer.put(insertIndex + 1, yBuffer, insertIndex, size - insertIndex);
+        xBuffer.put(insertIndex, pointX);
+        yBuffer.put(insertIndex, point.getY());
+        size++;
+    }
+
+    /**
+     * Добавляет в функцию сразу несколько точек за один проход слияния O(n + k log k).
+     * Все точки проверяются до изменения функции.
+     *
+     * @param newPoints добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        checkOpen();
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(newPoints);
+        // Проверка всех точек до изменения функции: один проход навстречу точкам функции.
+        int i = 0;
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            while (i < size && xBuffer.get(i) < pointX) {
+                i++;
+            }
+            if ((i < size && Math.abs(xBuffer.get(i) - pointX) < 1e-10)
+                    || (i > 0 && Math.abs(xBuffer.get(i - 1) - pointX) < 1e-10)) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+        }
+
+        if ((long) size + sortedPoints.length > MAX_POINTS_COUNT) {
+            throw new IllegalStateException("Достигнуто максимальное количество точек функции");
+        }
+        int newSize = size + sortedPoints.length;
+        if (newSize > xBuffer.capacity()) {
+            ByteBuffer oldXBytes = xBytes;
+            ByteBuffer oldYBytes = yBytes;
+            DoubleBuffer oldX = xBuffer;
+            DoubleBuffer oldY = yBuffer;
+            allocate((int) Math.min(Math.max(newSize, (long) size * 2), MAX_POINTS_COUNT));
+            xBuffer.put(0, oldX, 0, size);
+            yBuffer.put(0, oldY, 0, size);
+            release(oldXBytes);
+            release(oldYBytes);
+        }
+        // Слияние с конца: каждая точка функции сдвигается не более одного раза.
+        int read = size - 1;
+        int write = newSize - 1;
+        for (int j = sortedPoints.length - 1; j >= 0; j--) {
+            double pointX = sortedPoints[j].getX();
+            while (read >= 0 && xBuffer.get(read) > pointX) {
+                xBuffer.put(write, xBuffer.get(read));
+                yBuffer.put(write, yBuffer.get(read));
+                write--;
+                read--;
+            }
+            xBuffer.put(write, pointX);
+            yBuffer.put(write, sortedPoints[j].getY());
+            write--;
+        }
+        size = newSize;
+        detectUniformity();
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}],
+     * одним сдвигом оставшихся точек.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        checkOpen();
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        int from = 0;
+        int high = size;
+        while (from < high) {
+            int mid = (from + high) >>> 1;
+            if (xBuffer.get(mid) < fromX) {
+                from = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = from;
+        high = size;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (xBuffer.get(mid) <= toX) {
+                to = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int count = to - from;
+        if (size - count < 2) {
+            throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+        }
+        xBuffer.put(from, xBuffer, to, size - to);
+        yBuffer.put(from, yBuffer, to, size - to);
+        // Удаление точек с края сохраняет равномерность сетки, удаление внутренних - нарушает.
+        if (from != 0 && to != size) {
+            uniform = false;
+        }
+        size -= count;
+        return count;
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, читая координаты прямо из буферов.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        checkOpen();
+        for (int i = 0; i < size; i++) {
+            action.accept(i, xBuffer.get(i), yBuffer.get(i));
+        }
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        checkOpen();
+        return new Iterator<FunctionPoint>() {
+            private int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public FunctionPoint next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Нет следующего элемента");
+                }
+                FunctionPoint point = new FunctionPoint(xBuffer.get(index), yBuffer.get(index));
+                index++;
+                return point;
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Удаление не поддерживается");
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Возвращает строковое представление табулированной функции.
+     *
+     * @return строковое представление функции
+     */
+    @Override
+    public String toString() {
+        if (closed) {
+            return "{closed}";
+        }
+        StringBuilder sb = new StringBuilder("{");
+
+        for (int i = 0; i < size; i++) {
+            sb.append('(').append(xBuffer.get(i)).append("; ").append(yBuffer.get(i)).append(')');
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Сравнивает текущую функцию с другим объектом.
+     * Функции считаются равными, если совпадает количество точек
+     * и все соответствующие точки равны. Закрытая функция равна только самой себе.
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если функции равны, иначе {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (closed || !(o instanceof TabulatedFunction other)
+                || (other instanceof DirectBufferTabulatedFunction function && function.closed)) {
+            return false;
+        }
+
+        if (size != other.getPointsCount()) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(xBuffer.get(i) - other.getPointX(i)) >= 1e-10
+                    || Math.abs(yBuffer.get(i) - other.getPointY(i)) >= 1e-10) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Возвращает хэш-код табулированной функции.
+     * Совпадает с хэш-кодом {@link ArrayTabulatedFunction} с теми же точками.
+     * У закрытой функции хэш-код равен нулю.
+     *
+     * @return хэш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        if (closed) {
+            return 0;
+        }
+        int hash = size;
+
+        for (int i = 0; i < size; i++) {
+            hash ^= Long.hashCode(Double.doubleToLongBits(xBuffer.get(i))) ^ Long.hashCode(Double.doubleToLongBits(yBuffer.get(i)));
+        }
+
+        return hash;
+    }
+
+    /**
+     * Создаёт и возвращает глубокую копию табулированной функции в новых прямых буферах.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        checkOpen();
+        DirectBufferTabulatedFunction clone = new DirectBufferTabulatedFunction();
+        clone.allocate(size);
+        clone.size = size;
+        clone.xBuffer.put(0, xBuffer, 0, size);
+        clone.yBuffer.put(0, yBuffer, 0, size);
+        clone.uniform = uniform;
+        clone.uniformStep = uniformStep;
+        return clone;
+    }
+
+    // ────────────────────────────
+    // Методы для сериализации
+    // ────────────────────────────
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        checkOpen();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(xBuffer.get(i));
+            out.writeDouble(yBuffer.get(i));
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int pointsCount = in.readInt();
+        allocate(pointsCount);
+        size = pointsCount;
+        closed = false;
+        for (int i = 0; i < size; i++) {
+            xBuffer.put(i, in.readDouble());
+            yBuffer.put(i, in.readDouble());
+        }
+        detectUniformity();
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Выделяет прямые буферы под указанное количество точек.
+    private void allocate(int capacity) {
+        if (capacity > MAX_POINTS_COUNT) {
+            throw new IllegalArgumentException(
+                    String.format("Количество точек не может превышать %d", MAX_POINTS_COUNT)
+            );
+        }
+        xBytes = ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder());
+        yBytes = ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder());
+        xBuffer = xBytes.asDoubleBuffer();
+        yBuffer = yBytes.asDoubleBuffer();
+    }
+
+    // Сразу возвращает системе память прямого буфера, если это возможно; после вызова буфер использовать нельзя.
+    private static void release(ByteBuffer buffer) {
+        if (buffer == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // Память будет освобождена сборщиком мусора.
+        }
+    }
+
+    // Возвращает индекс i (1 <= i < size) первой точки, для которой x <= x[i] + 1e-10.
+    // Искомый отрезок интерполяции - [i - 1; i]. Значение x должно лежать в области определения.
+    // На равномерной сетке индекс вычисляется за O(1), иначе используется двоичный поиск.
+    private int findSegmentEnd(double x) {
+        if (uniform) {
+            int i = (int) ((x - xBuffer.get(0)) / uniformStep) + 1;
+            if (i < 1) {
+                i = 1;
+            } else if (i > size - 1) {
+                i = size - 1;
+            }
+            // Поправка на погрешность округления при вычислении индекса.
+            while (i > 1 && x <= xBuffer.get(i - 1) + 1e-10) {
+                i--;
+            }
+            while (i < size - 1 && x > xBuffer.get(i) + 1e-10) {
+                i++;
+            }
+            return i;
+        }
+        int low = 1;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= xBuffer.get(mid) + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Проверяет, образуют ли координаты X точек равномерную сетку.
+    private void detectUniformity() {
+        double leftX = xBuffer.get(0);
+        uniformStep = (xBuffer.get(size - 1) - leftX) / (size - 1);
+        uniform = true;
+        for (int i = 1; i < size - 1; i++) {
+            if (Math.abs(xBuffer.get(i) - (leftX + i * uniformStep)) > uniformStep * 1e-9) {
+                uniform = false;
+                return;
+            }
+        }
+    }
+
+    // Обновляет признак равномерности после изменения координаты X точки с индексом index.
+    private void updateUniformity(int index) {
+        if (uniform && (index == 0 || index == size - 1
+                || Math.abs(xBuffer.get(index) - (xBuffer.get(0) + index * uniformStep)) > uniformStep * 1e-9)) {
+            uniform = false;
+        }
+    }
+
+    // Метод для проверки того, что функция не закрыта.
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Функция закрыта, её буферы освобождены");
+        }
+    }
+
+    // Метод для проверки корректности индекса.
+    // (0 <= index < size)
+    private void checkIndexBounds(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Индекс точки должен быть не меньше нуля и меньше количества точек в функции. (На данный момент количество точек в функции - %d)", size)
+            );
+        }
+    }
+
+    // Метод для проверки корректности координаты X точки массива с индексом index при попытке её изменения.
+    // (новая координата X не должна выходить за границы координат X соседних точек)
+    private void checkPointOrder(int index, double pointX) throws InappropriateFunctionPointException {
+        if (index == 0) {
+            if (pointX >= xBuffer.get(1) - 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x должна быть меньше %.2f (при индексе %d)", xBuffer.get(index + 1), index)
+                );
+            }
+        } else if (index == size - 1) {
+            if (pointX <= xBuffer.get(index - 1) + 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x должна быть больше %.2f (при индексе %d)", xBuffer.get(index - 1), index)
+                );
+            }
+        } else if (pointX <= xBuffer.get(index - 1) + 1e-10 || pointX >= xBuffer.get(index + 1) - 1e-10) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Координата x должна лежать между %.2f и %.2f (при индексе %d)", xBuffer.get(index - 1), xBuffer.get(index + 1), index)
+            );
+        }
+    }
+}
@@ -0,0 +1,739 @@
+package functions;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Класс для работы с табулированными функциями одной переменной,
+ * хранящий координаты точек в двух параллельных массивах примитивов {@code double}.
+ * В отличие от {@link ArrayTabulatedFunction}, не создаёт отдельный объект
+ * {@link FunctionPoint} на каждую точку, что уменьшает расход памяти и
+ * улучшает локальность данных при вычислении значений функции.
+ */
+public class DoubleArrayTabulatedFunction implements TabulatedFunction, Externalizable {
+
+    public static class DoubleArrayTabulatedFunctionFactory implements TabulatedFunctionFactory {
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, int pointsCount) {
+            return new DoubleArrayTabulatedFunction(leftX, rightX, pointsCount);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, double[] values) {
+            return new DoubleArrayTabulatedFunction(leftX, rightX, values);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(FunctionPoint[] points) {
+            return new DoubleArrayTabulatedFunction(points);
+        }
+    }
+
+    private double[] xValues;
+    private double[] yValues;
+    private int size;
+    // Признак равномерной сетки: позволяет находить отрезок за O(1) вместо двоичного поиска.
+    private boolean uniform;
+    private double uniformStep;
+    // Кэш наклонов отрезков: slopes[i] - наклон отрезка [i - 1; i]. Пока кэш выключен, равен null.
+    // Не сериализуется.
+    private double[] slopes;
+
+    // Конструктор без параметров для сериализации.
+    public DoubleArrayTabulatedFunction() {}
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и нулевыми значениями.
+     *
+     * @param leftX       левая граница области определения (меньше правой)
+     * @param rightX      правая граница области определения
+     * @param pointsCount количество точек табулирования (не менее двух)
+     * @throws IllegalArgumentException если левая граница >= правой или точек < 2
+     */
+    public DoubleArrayTabulatedFunction(double leftX, double rightX, int pointsCount) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (pointsCount < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+
+        size = pointsCount;
+        xValues = new double[size];
+        yValues = new double[size];
+        double step = (rightX - leftX) / (size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            xValues[i] = leftX + i * step;
+        }
+        xValues[size - 1] = rightX;
+        uniform = true;
+        uniformStep = step;
+    }
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и заданными значениями.
+     *
+     * @param leftX  левая граница области определения (меньше правой)
+     * @param rightX правая граница области определения
+     * @param values значения функции в точках табулирования (не менее двух)
+     * @throws IllegalArgumentException если границы некорректны или значений < 2
+     */
+    public DoubleArrayTabulatedFunction(double leftX, double rightX, double[] values) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (values.length < 2)
+            throw new IllegalArgumentException("Количество значений функции в массиве values должно быть не меньше двух");
+
+        size = values.length;
+        xValues = new double[size];
+        yValues = new double[size];
+        double step = (rightX - leftX) / (size - 1);
+        for (int i = 0; i < size - 1; i++) {
+            xValues[i] = leftX + i * step;
+        }
+        xValues[size - 1] = rightX;
+        uniform = true;
+        uniformStep = step;
+        System.arraycopy(values, 0, yValues, 0, size);
+    }
+
+    /**
+     * Создаёт табулированную функцию по массиву точек {@code points}.
+     *
+     * @param points массив точек функции (длина не менее двух, X строго возрастают)
+     * @throws IllegalArgumentException если массив содержит меньше двух точек или точки не упорядочены по координате X
+     */
+    public DoubleArrayTabulatedFunction(FunctionPoint[] points) {
+        if (points.length < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+        for (int i = 0; i < points.length - 1; i++) {
+            if (points[i].getX() > points[i+1].getX() - 1e-10) {
+                throw new IllegalArgumentException("Точки в массиве должны быть упорядочены по координате X");
+            }
+        }
+
+        size = points.length;
+        xValues = new double[size];
+        yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = points[i].getX();
+            yValues[i] = points[i].getY();
+        }
+        detectUniformity();
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        return xValues[0];
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        return xValues[size - 1];
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        if (x >= getLeftDomainBorder() && x <= getRightDomainBorder()) {
+            int i = findSegmentEnd(x);
+            if (Math.abs(x - xValues[i]) < 1e-10) {
+                return yValues[i];
+            }
+            if (slopes != null) {
+                return yValues[i - 1] + slopes[i] * (x - xValues[i - 1]);
+            }
+            double y1 = yValues[i - 1];
+            double y2 = yValues[i];
+            double x1 = xValues[i - 1];
+            double x2 = xValues[i];
+            return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Вычисляет значения функции для массива аргументов.
+     * Если аргументы упорядочены по возрастанию, отрезки интерполяции находятся
+     * одним проходом навстречу точкам функции, иначе значения вычисляются по одному.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        if (!TabulatedFunctions.isNonDecreasing(x)) {
+            for (int k = 0; k < x.length; k++) {
+                result[k] = getFunctionValue(x[k]);
+            }
+            return;
+        }
+        double leftX = getLeftDomainBorder();
+        double rightX = getRightDomainBorder();
+        int i = 1;
+        for (int k = 0; k < x.length; k++) {
+            double xk = x[k];
+            if (xk < leftX || xk > rightX) {
+                result[k] = Double.NaN;
+                continue;
+            }
+            // Отрезок для следующего аргумента не левее текущего: чаще всего это тот же или соседний отрезок.
+            if (xk > xValues[i] + 1e-10) {
+                i++;
+                if (xk > xValues[i] + 1e-10) {
+                    i = findSegmentEnd(xk);
+                }
+            }
+            if (Math.abs(xk - xValues[i]) < 1e-10) {
+                result[k] = yValues[i];
+                continue;
+            }
+            if (slopes != null) {
+                result[k] = yValues[i - 1] + slopes[i] * (xk - xValues[i - 1]);
+                continue;
+            }
+            double y1 = yValues[i - 1];
+            double y2 = yValues[i];
+            double x1 = xValues[i - 1];
+            double x2 = xValues[i];
+            result[k] = y1 + (y2 - y1) * (xk - x1) / (x2 - x1);
+        }
+    }
+
+    @Override
+    public int getPointsCount() {
+        return size;
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        checkIndexBounds(index);
+        return new FunctionPoint(xValues[index], yValues[index]);
+    }
+
+    @Override
+    public double getPointX(int index) {
+        checkIndexBounds(index);
+        return xValues[index];
+    }
+
+    @Override
+    public double getPointY(int index) {
+        checkIndexBounds(index);
+        return yValues[index];
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        checkIndexBounds(index);
+        checkPointOrder(index, point.getX());
+        xValues[index] = point.getX();
+        yValues[index] = point.getY();
+        updateUniformity(index);
+        updateSlopes(index, index + 1);
+    }
+
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        checkIndexBounds(index);
+        checkPointOrder(index, x);
+        xValues[index] = x;
+        updateUniformity(index);
+        updateSlopes(index, index + 1);
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        checkIndexBounds(index);
+        yValues[index] = y;
+        updateSlopes(index, index + 1);
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        checkIndexBounds(index);
+        if (size < 3) {
+            throw new IllegalStateException("Нельзя удалить точку из функции, содержащей меньше трёх точек.");
+        }
+        System.arraycopy(xValues, index + 1, xValues, index, size - index - 1);
+        System.arraycopy(yValues, index + 1, yValues, index, size - index - 1);
+        size--;
+        // Удаление крайней точки сохраняет равномерность сетки, удаление внутренней - нарушает.
+        if (index != 0 && index != size) {
+            uniform = false;
+        }
+        onPointDeleted(index);
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        double pointX = point.getX();
+
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(xValues[i] - pointX) < 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+        }
+
+        if (size == xValues.length) {
+            double[] tempX = new double[size * 2];
+            double[] tempY = new double[size * 2];
+            System.arraycopy(xValues, 0, tempX, 0, size);
+            System.arraycopy(yValues, 0, tempY, 0, size);
+            xValues = tempX;
+            yValues = tempY;
+        }
+
+        int insertIndex = size;
+        for (int i = 0; i < size; i++) {
+            if (pointX < xValues[i]) {
+                insertIndex = i;
+                break;
+            }
+        }
+        // Точка, продолжающая равномерную сетку вправо, не нарушает её равномерности.
+        if (insertIndex < size || Math.abs(pointX - xValues[size - 1] - uniformStep) > uniformStep * 1e-9) {
+            uniform = false;
+        }
+        System.arraycopy(xValues, insertIndex, xValues, insertIndex + 1, size - insertIndex);
+        System.arraycopy(yValues, insertIndex, yValues, insertIndex + 1, size - insertIndex);
+        xValues[insertIndex] = pointX;
+        yValues[insertIndex] = point.getY();
+        size++;
+        onPointInserted(insertIndex);
+    }
+
+    /**
+     * Добавляет в функцию сразу несколько точек за один проход слияния O(n + k log k).
+     * Все точки проверяются до изменения функции.
+     *
+     * @param newPoints добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(newPoints);
+        // Проверка всех точек до изменения функции: один проход навстречу точкам функции.
+        int i = 0;
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            while (i < size && xValues[i] < pointX) {
+                i++;
+            }
+            if ((i < size && Math.abs(xValues[i] - pointX) < 1e-10)
+                    || (i > 0 && Math.abs(xValues[i - 1] - pointX) < 1e-10)) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+        }
+
+        int newSize = size + sortedPoints.length;
+        if (newSize > xValues.length) {
+            xValues = Arrays.copyOf(xValues, Math.max(newSize, size * 2));
+            yValues = Arrays.copyOf(yValues, Math.max(newSize, size * 2));
+        }
+        // Слияние с конца: каждая точка функции сдвигается не более одного раза.
+        int read = size - 1;
+        int write = newSize - 1;
+        for (int j = sortedPoints.length - 1; j >= 0; j--) {
+            double pointX = sortedPoints[j].getX();
+            while (read >= 0 && xValues[read] > pointX) {
+                xValues[write] = xValues[read];
+                yValues[write] = yValues[read];
+                write--;
+                read--;
+            }
+            xValues[write] = pointX;
+            yValues[write] = sortedPoints[j].getY();
+            write--;
+        }
+        size = newSize;
+        detectUniformity();
+        rebuildSlopes();
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}],
+     * одним сдвигом оставшихся точек.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        int from = 0;
+        int high = size;
+        while (from < high) {
+            int mid = (from + high) >>> 1;
+            if (xValues[mid] < fromX) {
+                from = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = from;
+        high = size;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (xValues[mid] <= toX) {
+                to = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int count = to - from;
+        if (size - count < 2) {
+            throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+        }
+        System.arraycopy(xValues, to, xValues, from, size - to);
+        System.arraycopy(yValues, to, yValues, from, size - to);
+        // Удаление точек с края сохраняет равномерность сетки, удаление внутренних - нарушает.
+        if (from != 0 && to != size) {
+            uniform = false;
+        }
+        size -= count;
+        rebuildSlopes();
+        return count;
+    }
+
+    /**
+     * Включает или отключает кэш наклонов отрезков интерполяции.
+     * При включённом кэше значение функции на отрезке вычисляется одним умножением со сложением
+     * без деления; наклоны соседних отрезков пересчитываются при каждом изменении точки.
+     * Включение вычисляет наклоны всех отрезков за O(n). Значения функции с кэшем и без него
+     * могут отличаться в пределах погрешности округления.
+     * <p>
+     * Кэш не сериализуется: {@link #writeExternal(ObjectOutput)} записывает только точки, поэтому
+     * у функции, прочитанной из потока, кэш выключен. Копия {@link #clone()} сохраняет состояние кэша.
+     *
+     * @param enabled {@code true}, чтобы вычислить наклоны, {@code false}, чтобы удалить кэш
+     */
+    public void setSlopeCacheEnabled(boolean enabled) {
+        if (enabled == (slopes != null)) {
+            return;
+        }
+        if (enabled) {
+            slopes = new double[xValues.length];
+            updateSlopes(1, size - 1);
+        } else {
+            slopes = null;
+        }
+    }
+
+    /**
+     * Проверяет, включён ли кэш наклонов отрезков.
+     *
+     * @return {@code true}, если кэш включён
+     */
+    public boolean isSlopeCacheEnabled() {
+        return slopes != null;
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, читая координаты прямо из массивов координат.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(i, xValues[i], yValues[i]);
+        }
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        return new Iterator<FunctionPoint>() {
+            private int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public FunctionPoint next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Нет следующего элемента");
+                }
+                FunctionPoint point = new FunctionPoint(xValues[index], yValues[index]);
+                index++;
+                return point;
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Удаление не поддерживается");
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Возвращает строковое представление табулированной функции.
+     *
+     * @return строковое представление функции
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+
+        for (int i = 0; i < size; i++) {
+            sb.append('(').append(xValues[i]).append("; ").append(yValues[i]).append(')');
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Сравнивает текущую функцию с другим объектом.
+     * Функции считаются равными, если совпадает количество точек
+     * и все соответствующие точки равны.
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если функции равны, иначе {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TabulatedFunction other)) {
+            return false;
+        }
+
+        if (size != other.getPointsCount()) {
+            return false;
+        }
+
+        if (o instanceof DoubleArrayTabulatedFunction arrayFunc) {
+            for (int i = 0; i < size; i++) {
+                if (Math.abs(xValues[i] - arrayFunc.xValues[i]) >= 1e-10
+                        || Math.abs(yValues[i] - arrayFunc.yValues[i]) >= 1e-10) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(xValues[i] - other.getPointX(i)) >= 1e-10
+                    || Math.abs(yValues[i] - other.getPointY(i)) >= 1e-10) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Возвращает хэш-код табулированной функции.
+     * Совпадает с хэш-кодом {@link ArrayTabulatedFunction} с теми же точками.
+     *
+     * @return хэш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        int hash = size;
+
+        for (int i = 0; i < size; i++) {
+            hash ^= Long.hashCode(Double.doubleToLongBits(xValues[i])) ^ Long.hashCode(Double.doubleToLongBits(yValues[i]));
+        }
+
+        return hash;
+    }
+
+    /**
+     * Создаёт и возвращает глубокую копию табулированной функции.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        DoubleArrayTabulatedFunction clone = new DoubleArrayTabulatedFunction();
+        clone.size = size;
+        clone.xValues = Arrays.copyOf(xValues, size);
+        clone.yValues = Arrays.copyOf(yValues, size);
+        clone.uniform = uniform;
+        clone.uniformStep = uniformStep;
+        clone.setSlopeCacheEnabled(slopes != null);
+        return clone;
+    }
+
+    // ────────────────────────────
+    // Методы для сериализации
+    // ────────────────────────────
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(xValues[i]);
+            out.writeDouble(yValues[i]);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        size = in.readInt();
+        xValues = new double[size];
+        yValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            xValues[i] = in.readDouble();
+            yValues[i] = in.readDouble();
+        }
+        detectUniformity();
+        rebuildSlopes();
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Возвращает индекс i (1 <= i < size) первой точки, для которой x <= x[i] + 1e-10.
+    // Искомый отрезок интерполяции - [i - 1; i]. Значение x должно лежать в области определения.
+    // На равномерной сетке индекс вычисляется за O(1), иначе используется двоичный поиск.
+    private int findSegmentEnd(double x) {
+        if (uniform) {
+            int i = (int) ((x - xValues[0]) / uniformStep) + 1;
+            if (i < 1) {
+                i = 1;
+            } else if (i > size - 1) {
+                i = size - 1;
+            }
+            // Поправка на погрешность округления при вычислении индекса.
+            while (i > 1 && x <= xValues[i - 1] + 1e-10) {
+                i--;
+            }
+            while (i < size - 1 && x > xValues[i] + 1e-10) {
+                i++;
+            }
+            return i;
+        }
+        int low = 1;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= xValues[mid] + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Проверяет, образуют ли координаты X точек равномерную сетку.
+    private void detectUniformity() {
+        uniformStep = (xValues[size - 1] - xValues[0]) / (size - 1);
+        uniform = true;
+        for (int i = 1; i < size - 1; i++) {
+            if (Math.abs(xValues[i] - (xValues[0] + i * uniformStep)) > uniformStep * 1e-9) {
+                uniform = false;
+                return;
+            }
+        }
+    }
+
+    // Обновляет признак равномерности после изменения координаты X точки с индексом index.
+    private void updateUniformity(int index) {
+        if (uniform && (index == 0 || index == size - 1
+                || Math.abs(xValues[index] - (xValues[0] + index * uniformStep)) > uniformStep * 1e-9)) {
+            uniform = false;
+        }
+    }
+
+    // Пересчитывает наклоны отрезков, заканчивающихся в точках с индексами от from до to,
+    // если кэш наклонов включён. Индексы вне [1; size - 1] пропускаются.
+    private void updateSlopes(int from, int to) {
+        if (slopes == null) {
+            return;
+        }
+        for (int i = Math.max(from, 1); i <= Math.min(to, size - 1); i++) {
+            slopes[i] = (yValues[i] - yValues[i - 1]) / (xValues[i] - xValues[i - 1]);
+        }
+    }
+
+    // Обновляет кэш наклонов после вставки точки с индексом index:
+    // наклоны следующих отрезков сдвигаются, наклоны двух отрезков у новой точки вычисляются заново.
+    private void onPointInserted(int index) {
+        if (slopes == null) {
+            return;
+        }
+        if (slopes.length < xValues.length) {
+            slopes = Arrays.copyOf(slopes, xValues.length);
+        }
+        if (index + 2 < size) {
+            System.arraycopy(slopes, index + 1, slopes, index + 2, size - index - 2);
+        }
+        updateSlopes(index, index + 1);
+    }
+
+    // Обновляет кэш наклонов после удаления точки с индексом index:
+    // наклоны следующих отрезков сдвигаются, наклон отрезка на месте удалённой точки вычисляется заново.
+    private void onPointDeleted(int index) {
+        if (slopes == null) {
+            return;
+        }
+        if (index + 1 < size) {
+            System.arraycopy(slopes, index + 2, slopes, index + 1, size - index - 1);
+        }
+        updateSlopes(index, index);
+    }
+
+    // Вычисляет заново наклоны всех отрезков после группового изменения точек, если кэш наклонов включён.
+    private void rebuildSlopes() {
+        if (slopes != null) {
+            slopes = new double[xValues.length];
+            updateSlopes(1, size - 1);
+        }
+    }
+
+    // Метод для проверки корректности индекса.
+    // (0 <= index < size)
+    private void checkIndexBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Индекс точки должен быть не меньше нуля и меньше количества точек в функции. (На данный момент количество точек в функции - %d)", size)
+            );
+        }
+    }
+
+    // Метод для проверки корректности координаты X точки массива с индексом index при попытке её изменения.
+    // (новая координата X не должна выходить за границы координат X соседних точек)
+    private void checkPointOrder(int index, double pointX) throws InappropriateFunctionPointException {
+        if (index == 0) {
+            if (pointX >= xValues[1] - 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x должна быть меньше %.2f (при индексе %d)", xValues[index + 1], index)
+                );
+            }
+        } else if (index == size - 1) {
+            if (pointX <= xValues[index - 1] + 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x должна быть больше %.2f (при индексе %d)", xValues[index - 1], index)
+                );
+            }
+        } else if (pointX <= xValues[index - 1] + 1e-10 || pointX >= xValues[index + 1] - 1e-10) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Координата x должна лежать между %.2f и %.2f (при индексе %d)", xValues[index - 1], xValues[index + 1], index)
+            );
+        }
+    }
+}
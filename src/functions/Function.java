@@ -10,6 +10,23 @@ public interface Function {
      */
     double getFunctionValue(double x);
 
+    /**
+     * Вычисляет значения функции сразу для массива аргументов.
+     * Значение для {@code x[i]} записывается в {@code result[i]} и совпадает с {@code getFunctionValue(x[i])};
+     * реализации на векторных ядрах {@link BatchKernels} (включаются явно) могут отличаться от него
+     * в пределах погрешности, указанной в их документации.
+     * Массив {@code result} может совпадать с массивом {@code x}.
+     * Реализация по умолчанию вызывает {@link #getFunctionValue(double)} для каждого аргумента.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    default void getFunctionValues(double[] x, double[] result) {
+        for (int i = 0; i < x.length; i++) {
+            result[i] = getFunctionValue(x[i]);
+        }
+    }
+
     /**
      * Возвращает левую границу области определения
      *
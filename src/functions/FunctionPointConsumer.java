@@ -0,0 +1,18 @@
+package functions;
+
+/**
+ * Получатель точек табулированной функции при обходе методом
+ * {@link TabulatedFunction#forEachPoint(FunctionPointConsumer)}.
+ * Координаты передаются примитивами, поэтому обход не создаёт объектов {@link FunctionPoint}.
+ */
+@FunctionalInterface
+public interface FunctionPointConsumer {
+    /**
+     * Обрабатывает очередную точку функции.
+     *
+     * @param index индекс точки
+     * @param x координата X точки
+     * @param y координата Y точки
+     */
+    void accept(int index, double x, double y);
+}
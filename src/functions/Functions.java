@@ -1,9 +1,22 @@
 package functions;
 
 import functions.meta.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class Functions {
 
+    // Количество узлов, значения в которых вычисляются за один вызов getFunctionValues при интегрировании.
+    private static final int INTEGRATION_BLOCK_SIZE = 1024;
+    // Количество отрезков, площади трапеций на которых суммируются одной задачей при параллельном интегрировании.
+    private static final int PARALLEL_INTEGRATION_CHUNK_SIZE = 1 << 16;
+    // Наименьшее и наибольшее количество делений шага пополам в методе Ромберга.
+    private static final int ROMBERG_MIN_LEVELS = 4;
+    private static final int ROMBERG_MAX_LEVELS = 24;
+
     private Functions() {}
 
     public static Function shift(Function f, double shiftX, double shiftY) {
@@ -32,6 +45,13 @@ public class Functions {
 
     /**
      * Вычисляет определённый интеграл функции методом трапеций.
+     * Интеграл табулированной функции вычисляется точно по её точкам
+     * методом {@link TabulatedFunction#integrate(double, double)}, шаг при этом не используется.
+     * <p>
+     * Значения функции вычисляются блоками по {@value #INTEGRATION_BLOCK_SIZE} узлов, площади трапеций
+     * блока суммирует ядро {@link BatchKernels}. Скалярное ядро (по умолчанию) складывает площади по одной,
+     * и результат совпадает с поточечным вычислением; векторное накапливает их по полосам вектора,
+     * и результат отличается от поточечного в пределах погрешности округления.
      *
      * @param f функция для интегрирования
      * @param leftX левая граница интегрирования
@@ -42,6 +62,312 @@ public class Functions {
      *                                  или выходят за область определения функции
      */
     public static double integrate(Function f, double leftX, double rightX, double step) {
+        checkIntegrationBounds(f, leftX, rightX);
+        if (f instanceof TabulatedFunction tabulatedFunction) {
+            return tabulatedFunction.integrate(leftX, rightX);
+        }
+        // Значения функции вычисляются блоками через getFunctionValues, площади трапеций блока
+        // суммирует ядро BatchKernels.trapezoidSum.
+        double[] xs = new double[INTEGRATION_BLOCK_SIZE];
+        double[] ys = new double[INTEGRATION_BLOCK_SIZE];
+        double integralValue = 0.0;
+        double x = leftX;
+        double yLeft = f.getFunctionValue(x);
+        while (x + step < rightX) {
+            int count = 0;
+            double next = x;
+            while (count < INTEGRATION_BLOCK_SIZE && next + step < rightX) {
+                next += step;
+                xs[count++] = next;
+            }
+            double[] values = ys;
+            if (count < INTEGRATION_BLOCK_SIZE) {
+                values = Arrays.copyOf(xs, count);
+                f.getFunctionValues(values, values);
+            } else {
+                f.getFunctionValues(xs, ys);
+            }
+            integralValue = BatchKernels.trapezoidSum(integralValue, yLeft, values, count, step);
+            yLeft = values[count - 1];
+            x = xs[count - 1];
+        }
+        if (x < rightX) {
+            double lastStep = rightX - x;
+            double yRight = f.getFunctionValue(rightX);
+
+            integralValue += (yLeft + yRight) * lastStep / 2.0;
+        }
+        return integralValue;
+    }
+
+    /**
+     * Вычисляет определённый интеграл функции методом трапеций параллельно
+     * в общем пуле {@link ForkJoinPool#commonPool()}.
+     *
+     * @param f функция для интегрирования
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @param step шаг интегрирования (больше нуля)
+     * @return приближённое значение интеграла
+     * @throws IllegalArgumentException если границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или шаг не положителен
+     * @see #integrateParallel(Function, double, double, double, ForkJoinPool)
+     */
+    public static double integrateParallel(Function f, double leftX, double rightX, double step) {
+        return integrateParallel(f, leftX, rightX, step, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Вычисляет определённый интеграл функции методом трапеций параллельно в пуле {@code pool}.
+     * <p>
+     * Узлы сетки - {@code leftX + i * step}, последний отрезок заканчивается в {@code rightX}.
+     * Отрезки делятся на части по {@value #PARALLEL_INTEGRATION_CHUNK_SIZE} штук; части и порядок
+     * сложения их сумм зависят только от количества отрезков, а суммы накапливаются с компенсацией
+     * погрешности округления (алгоритм Ноймайера). Поэтому результат не зависит от числа потоков
+     * и совпадает при повторных вычислениях, если значения функции воспроизводимы (векторные ядра
+     * {@link BatchKernels} этого не гарантируют). Функция должна допускать одновременное вычисление
+     * значений из нескольких потоков.
+     *
+     * @param f функция для интегрирования
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @param step шаг интегрирования (больше нуля)
+     * @param pool пул, в котором выполняется вычисление
+     * @return приближённое значение интеграла
+     * @throws IllegalArgumentException если границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или шаг не положителен
+     */
+    public static double integrateParallel(Function f, double leftX, double rightX, double step, ForkJoinPool pool) {
+        checkIntegrationBounds(f, leftX, rightX);
+        checkIntegrationStep(step);
+        // Количество отрезков: последний узел сетки перед rightX имеет индекс segmentsCount - 1.
+        long segmentsCount = Math.max(1, (long) Math.ceil((rightX - leftX) / step));
+        while (segmentsCount > 1 && leftX + (segmentsCount - 1) * step >= rightX) {
+            segmentsCount--;
+        }
+        while (leftX + segmentsCount * step < rightX) {
+            segmentsCount++;
+        }
+        return pool.invoke(new TrapezoidTask(f, leftX, rightX, step, segmentsCount, 0, segmentsCount)).value();
+    }
+
+    /**
+     * Вычисляет определённые интегралы методом трапеций для списка заданий
+     * в общем пуле {@link ForkJoinPool#commonPool()}.
+     *
+     * @param jobs задания на интегрирование
+     * @return значения интегралов в порядке заданий
+     * @throws IllegalArgumentException если в каком-либо задании границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или шаг не положителен
+     * @see #integrateAll(List, ForkJoinPool)
+     */
+    public static double[] integrateAll(IntegrationJob[] jobs) {
+        return integrateAll(Arrays.asList(jobs), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Вычисляет определённые интегралы методом трапеций для списка заданий
+     * в общем пуле {@link ForkJoinPool#commonPool()}.
+     *
+     * @param jobs задания на интегрирование
+     * @return значения интегралов в порядке заданий
+     * @throws IllegalArgumentException если в каком-либо задании границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или шаг не положителен
+     * @see #integrateAll(List, ForkJoinPool)
+     */
+    public static double[] integrateAll(List<IntegrationJob> jobs) {
+        return integrateAll(jobs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Вычисляет определённые интегралы методом трапеций для списка заданий в пуле {@code pool}.
+     * Как и в {@link #integrate(Function, double, double, double)}, интеграл табулированной функции
+     * вычисляется точно по её точкам методом {@link TabulatedFunction#integrate(double, double)},
+     * шаг задания при этом не используется; такие задания вычисляются в вызывающем потоке.
+     * <p>
+     * Задания с одной и той же функцией (тот же объект) и одинаковым шагом, отрезки которых
+     * перекрываются или соприкасаются, а левые границы отличаются на целое число шагов,
+     * используют общую сетку: значение функции в каждом общем узле вычисляется один раз.
+     * Остальные задания вычисляются по отдельности. Работа всех заданий делится на части
+     * по {@value #PARALLEL_INTEGRATION_CHUNK_SIZE} отрезков, которые выполняются параллельно.
+     * <p>
+     * Узлы сетки задания - {@code leftX + i * step} с точностью до 1e-10 (узлы общей сетки),
+     * последний отрезок заканчивается в {@code rightX}, как у
+     * {@link #integrateParallel(Function, double, double, double, ForkJoinPool)}. Суммы накапливаются
+     * с компенсацией погрешности округления в порядке, зависящем только от заданий, поэтому результат
+     * не зависит от числа потоков; с векторными ядрами {@link BatchKernels} значения функций, а с ними
+     * и результат, могут различаться в последнем бите от вызова к вызову. Функции должны допускать одновременное вычисление значений
+     * из нескольких потоков.
+     *
+     * @param jobs задания на интегрирование
+     * @param pool пул, в котором выполняется вычисление
+     * @return значения интегралов в порядке заданий
+     * @throws IllegalArgumentException если в каком-либо задании границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или шаг не положителен
+     */
+    public static double[] integrateAll(List<IntegrationJob> jobs, ForkJoinPool pool) {
+        for (IntegrationJob job : jobs) {
+            checkIntegrationBounds(job.getFunction(), job.getLeftX(), job.getRightX());
+            checkIntegrationStep(job.getStep());
+        }
+        // Задания с табулированными функциями интегрируются точно, остальные - на общих сетках.
+        List<IntegrationJob> gridJobs = new ArrayList<>();
+        List<Integer> gridIndices = new ArrayList<>();
+        double[] results = new double[jobs.size()];
+        for (int i = 0; i < jobs.size(); i++) {
+            IntegrationJob job = jobs.get(i);
+            if (job.getFunction() instanceof TabulatedFunction tabulatedFunction) {
+                results[i] = tabulatedFunction.integrate(job.getLeftX(), job.getRightX());
+            } else {
+                gridJobs.add(job);
+                gridIndices.add(i);
+            }
+        }
+        double[] gridResults = BatchIntegrator.integrate(gridJobs, pool);
+        for (int i = 0; i < gridResults.length; i++) {
+            results[gridIndices.get(i)] = gridResults[i];
+        }
+        return results;
+    }
+
+    /**
+     * Вычисляет определённый интеграл функции адаптивным методом Симпсона.
+     * <p>
+     * Отрезок с наибольшей оценкой погрешности делится пополам, пока суммарная оценка
+     * не станет не больше {@code max(absoluteTolerance, relativeTolerance * |значение|)}.
+     * Погрешность на отрезке оценивается сравнением формулы Симпсона на нём и на его половинах.
+     * Если значение функции на конце отрезка интегрирования не является конечным числом
+     * (например, у {@code Log} в нуле), берётся значение в точке рядом с концом внутри отрезка.
+     *
+     * @param f функция для интегрирования
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @param absoluteTolerance допустимая абсолютная погрешность (не меньше нуля)
+     * @param relativeTolerance допустимая относительная погрешность (не меньше нуля)
+     * @return значение интеграла, оценка погрешности и количество вычислений функции
+     * @throws IllegalArgumentException если границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или погрешности некорректны
+     */
+    public static IntegrationResult integrateSimpson(Function f, double leftX, double rightX,
+                                                     double absoluteTolerance, double relativeTolerance) {
+        checkIntegrationBounds(f, leftX, rightX);
+        checkTolerances(absoluteTolerance, relativeTolerance);
+        return AdaptiveQuadrature.simpson(f, leftX, rightX, absoluteTolerance, relativeTolerance);
+    }
+
+    /**
+     * Вычисляет определённый интеграл функции адаптивной квадратурой Гаусса - Кронрода (G7K15).
+     * <p>
+     * На каждом отрезке значение вычисляется по 15 точкам Кронрода, а погрешность оценивается
+     * разностью с квадратурой Гаусса по 7 из этих точек. Отрезок с наибольшей оценкой погрешности
+     * делится пополам, пока суммарная оценка не станет не больше
+     * {@code max(absoluteTolerance, relativeTolerance * |значение|)}. Узлы квадратуры лежат
+     * внутри отрезка, поэтому значения функции на концах не вычисляются.
+     *
+     * @param f функция для интегрирования
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @param absoluteTolerance допустимая абсолютная погрешность (не меньше нуля)
+     * @param relativeTolerance допустимая относительная погрешность (не меньше нуля)
+     * @return значение интеграла, оценка погрешности и количество вычислений функции
+     * @throws IllegalArgumentException если границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или погрешности некорректны
+     */
+    public static IntegrationResult integrateGaussKronrod(Function f, double leftX, double rightX,
+                                                          double absoluteTolerance, double relativeTolerance) {
+        checkIntegrationBounds(f, leftX, rightX);
+        checkTolerances(absoluteTolerance, relativeTolerance);
+        return AdaptiveQuadrature.gaussKronrod(f, leftX, rightX, absoluteTolerance, relativeTolerance);
+    }
+
+    /**
+     * Вычисляет определённый интеграл функции методом Ромберга.
+     * <p>
+     * Шаг формулы трапеций последовательно делится пополам; на каждом уровне функция вычисляется
+     * только в новых узлах - серединах отрезков предыдущего уровня, а значения предыдущих узлов
+     * используются повторно через сумму предыдущего уровня. Последовательность значений уточняется
+     * экстраполяцией Ричардсона. Вычисление прекращается, когда диагональные элементы таблицы
+     * двух последних уровней отличаются не больше чем на
+     * {@code max(absoluteTolerance, relativeTolerance * |значение|)}, но не раньше
+     * {@value #ROMBERG_MIN_LEVELS} уровней и не позже {@value #ROMBERG_MAX_LEVELS} уровней.
+     * Для гладких функций ({@code Exp}, {@code Sin}) высокая точность достигается за десятки вычислений.
+     * Если значение функции на конце отрезка интегрирования не является конечным числом,
+     * берётся значение в точке рядом с концом внутри отрезка. При особенностях на концах
+     * (например, у {@code Log} около нуля) метод сходится медленно, и для таких функций лучше подходит
+     * {@link #integrateGaussKronrod(Function, double, double, double, double)}.
+     *
+     * @param f функция для интегрирования
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @param absoluteTolerance допустимая абсолютная погрешность (не меньше нуля)
+     * @param relativeTolerance допустимая относительная погрешность (не меньше нуля)
+     * @return значение интеграла, оценка погрешности, количество вычислений функции и таблица экстраполяции
+     * @throws IllegalArgumentException если границы интегрирования заданы некорректно,
+     *                                  выходят за область определения функции или погрешности некорректны
+     */
+    public static RombergIntegrationResult integrateRomberg(Function f, double leftX, double rightX,
+                                                            double absoluteTolerance, double relativeTolerance) {
+        checkIntegrationBounds(f, leftX, rightX);
+        checkTolerances(absoluteTolerance, relativeTolerance);
+
+        int[] evaluations = {0};
+        double length = rightX - leftX;
+        double leftY = AdaptiveQuadrature.endpointValue(f, leftX, length * AdaptiveQuadrature.ENDPOINT_SHIFT, evaluations);
+        double rightY = AdaptiveQuadrature.endpointValue(f, rightX, -length * AdaptiveQuadrature.ENDPOINT_SHIFT, evaluations);
+
+        double[][] table = new double[ROMBERG_MAX_LEVELS + 1][];
+        table[0] = new double[] {length * (leftY + rightY) / 2.0};
+        double[] xs = new double[INTEGRATION_BLOCK_SIZE];
+        double[] ys = new double[INTEGRATION_BLOCK_SIZE];
+        int level = 0;
+        double error = Double.POSITIVE_INFINITY;
+        while (level < ROMBERG_MAX_LEVELS) {
+            level++;
+            // Новые узлы уровня - середины 2^(level - 1) отрезков предыдущего уровня.
+            long newNodesCount = 1L << (level - 1);
+            double h = length / (2 * newNodesCount);
+            double newNodesSum = 0.0;
+            for (long from = 0; from < newNodesCount; from += INTEGRATION_BLOCK_SIZE) {
+                int count = (int) Math.min(INTEGRATION_BLOCK_SIZE, newNodesCount - from);
+                if (count != xs.length) {
+                    xs = new double[count];
+                    ys = new double[count];
+                }
+                for (int j = 0; j < count; j++) {
+                    xs[j] = leftX + (2 * (from + j) + 1) * h;
+                }
+                f.getFunctionValues(xs, ys);
+                for (int j = 0; j < count; j++) {
+                    newNodesSum += ys[j];
+                }
+            }
+            evaluations[0] += (int) newNodesCount;
+
+            double[] row = new double[level + 1];
+            double[] previousRow = table[level - 1];
+            row[0] = previousRow[0] / 2.0 + h * newNodesSum;
+            double factor = 1.0;
+            for (int j = 1; j <= level; j++) {
+                factor *= 4.0;
+                row[j] = row[j - 1] + (row[j - 1] - previousRow[j - 1]) / (factor - 1.0);
+            }
+            table[level] = row;
+
+            error = Math.abs(row[level] - previousRow[level - 1]);
+            if (!Double.isFinite(row[level])) {
+                break;
+            }
+            if (level >= ROMBERG_MIN_LEVELS
+                    && error <= Math.max(absoluteTolerance, relativeTolerance * Math.abs(row[level]))) {
+                break;
+            }
+        }
+        double[][] usedTable = Arrays.copyOf(table, level + 1);
+        return new RombergIntegrationResult(usedTable[level][level], error, evaluations[0], usedTable);
+    }
+
+    // Проверяет, что отрезок интегрирования задан корректно и лежит в области определения функции.
+    private static void checkIntegrationBounds(Function f, double leftX, double rightX) {
         if (leftX >= rightX) {
             throw new IllegalArgumentException(
                     String.format(
@@ -61,24 +387,115 @@ public class Functions {
                     )
             );
         }
-        double integralValue = 0.0;
-        double x = leftX;
-        while (x + step < rightX) {
-            double yLeft = f.getFunctionValue(x);
-            double yRight = f.getFunctionValue(x + step);
+    }
 
-            integralValue += (yLeft + yRight) * step / 2.0;
-            x += step;
+    // Проверяет, что шаг интегрирования больше нуля.
+    private static void checkIntegrationStep(double step) {
+        if (!(step > 0)) {
+            throw new IllegalArgumentException(
+                    String.format("Шаг интегрирования должен быть больше нуля. (step = %.5f)", step)
+            );
         }
-        if (x < rightX) {
-            double lastStep = rightX - x;
-            double yLeft = f.getFunctionValue(x);
-            double yRight = f.getFunctionValue(rightX);
+    }
 
-            integralValue += (yLeft + yRight) * lastStep / 2.0;
+    // Проверяет, что допустимые погрешности неотрицательны и хотя бы одна из них больше нуля.
+    private static void checkTolerances(double absoluteTolerance, double relativeTolerance) {
+        if (!(absoluteTolerance >= 0) || !(relativeTolerance >= 0)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Допустимые погрешности не могут быть отрицательными. (absoluteTolerance = %g, relativeTolerance = %g)",
+                            absoluteTolerance, relativeTolerance
+                    )
+            );
+        }
+        if (absoluteTolerance == 0 && relativeTolerance == 0) {
+            throw new IllegalArgumentException("Хотя бы одна из допустимых погрешностей должна быть больше нуля");
         }
-        return integralValue;
     }
 
+    // Сумма с компенсацией погрешности округления по алгоритму Ноймайера.
+    static final class NeumaierSum {
+        private double sum;
+        private double compensation;
 
+        void add(double value) {
+            double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+
+        void add(NeumaierSum other) {
+            add(other.sum);
+            add(other.compensation);
+        }
+
+        double value() {
+            return sum + compensation;
+        }
+    }
+
+    // Задача, вычисляющая сумму площадей трапеций на отрезках сетки с индексами из [from; to).
+    // Отрезок i соединяет узлы leftX + i * step и leftX + (i + 1) * step (последний узел - rightX).
+    private static final class TrapezoidTask extends RecursiveTask<NeumaierSum> {
+        private final Function f;
+        private final double leftX;
+        private final double rightX;
+        private final double step;
+        private final long segmentsCount;
+        private final long from;
+        private final long to;
+
+        TrapezoidTask(Function f, double leftX, double rightX, double step, long segmentsCount, long from, long to) {
+            this.f = f;
+            this.leftX = leftX;
+            this.rightX = rightX;
+            this.step = step;
+            this.segmentsCount = segmentsCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected NeumaierSum compute() {
+            if (to - from > PARALLEL_INTEGRATION_CHUNK_SIZE) {
+                // Граница деления кратна размеру части, поэтому разбиение не зависит от числа потоков.
+                long chunks = (to - from + PARALLEL_INTEGRATION_CHUNK_SIZE - 1) / PARALLEL_INTEGRATION_CHUNK_SIZE;
+                long middle = from + chunks / 2 * PARALLEL_INTEGRATION_CHUNK_SIZE;
+                TrapezoidTask left = new TrapezoidTask(f, leftX, rightX, step, segmentsCount, from, middle);
+                TrapezoidTask right = new TrapezoidTask(f, leftX, rightX, step, segmentsCount, middle, to);
+                left.fork();
+                NeumaierSum sum = right.compute();
+                NeumaierSum leftSum = left.join();
+                leftSum.add(sum);
+                return leftSum;
+            }
+            NeumaierSum sum = new NeumaierSum();
+            double[] xs = new double[INTEGRATION_BLOCK_SIZE + 1];
+            double[] ys = new double[INTEGRATION_BLOCK_SIZE + 1];
+            // Блоки узлов перекрываются на один узел: правый узел блока - левый узел следующего.
+            for (long blockFrom = from; blockFrom < to; blockFrom += INTEGRATION_BLOCK_SIZE) {
+                int count = (int) Math.min(INTEGRATION_BLOCK_SIZE, to - blockFrom);
+                if (count < INTEGRATION_BLOCK_SIZE) {
+                    xs = new double[count + 1];
+                    ys = new double[count + 1];
+                }
+                for (int i = 0; i <= count; i++) {
+                    xs[i] = node(blockFrom + i);
+                }
+                f.getFunctionValues(xs, ys);
+                for (int i = 0; i < count; i++) {
+                    sum.add((ys[i] + ys[i + 1]) * (xs[i + 1] - xs[i]) / 2.0);
+                }
+            }
+            return sum;
+        }
+
+        private double node(long index) {
+            return index == segmentsCount ? rightX : leftX + index * step;
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package functions;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Разделяемый итератор по координатам X или Y точек табулированной функции,
+ * обращающийся к точкам по индексу. Не создаёт объектов {@link FunctionPoint}.
+ * Координаты X строго возрастают, поэтому итератор по ним отмечен как упорядоченный и без повторов.
+ */
+class IndexCoordinateSpliterator implements Spliterator.OfDouble {
+    private final TabulatedFunction function;
+    private final boolean yCoordinate;
+    private int index;
+    private final int fence;
+
+    IndexCoordinateSpliterator(TabulatedFunction function, boolean yCoordinate, int index, int fence) {
+        this.function = function;
+        this.yCoordinate = yCoordinate;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(yCoordinate ? function.getPointY(index) : function.getPointX(index));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        if (yCoordinate) {
+            for (; index < fence; index++) {
+                action.accept(function.getPointY(index));
+            }
+        } else {
+            for (; index < fence; index++) {
+                action.accept(function.getPointX(index));
+            }
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator.OfDouble prefix = new IndexCoordinateSpliterator(function, yCoordinate, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return yCoordinate ? ORDERED | SIZED | SUBSIZED : ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT;
+    }
+
+    // Координаты X упорядочены по естественному порядку чисел.
+    @Override
+    public Comparator<? super Double> getComparator() {
+        if (yCoordinate) {
+            throw new IllegalStateException();
+        }
+        return null;
+    }
+}
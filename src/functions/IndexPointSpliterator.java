@@ -0,0 +1,59 @@
+package functions;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Разделяемый итератор по точкам табулированной функции, обращающийся к точкам по индексу.
+ * Используется реализациями с быстрым доступом к точкам по индексу: диапазон индексов
+ * делится пополам за O(1), поэтому параллельные потоки равномерно распределяют точки между ядрами.
+ */
+class IndexPointSpliterator implements Spliterator<FunctionPoint> {
+    private final TabulatedFunction function;
+    private int index;
+    private final int fence;
+
+    IndexPointSpliterator(TabulatedFunction function, int index, int fence) {
+        this.function = function;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super FunctionPoint> action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(function.getPoint(index));
+        index++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super FunctionPoint> action) {
+        for (; index < fence; index++) {
+            action.accept(function.getPoint(index));
+        }
+    }
+
+    @Override
+    public Spliterator<FunctionPoint> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator<FunctionPoint> prefix = new IndexPointSpliterator(function, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -0,0 +1,81 @@
+package functions;
+
+/**
+ * Курсор табулированной функции, перемещающийся по индексам точек.
+ * Используется реализациями с быстрым доступом к точкам по индексу.
+ * Обращается к функции только через методы чтения, поэтому курсоры разных потоков не мешают друг другу.
+ */
+class IndexTabulatedFunctionCursor implements TabulatedFunctionCursor {
+    // Количество шагов по соседним отрезкам, после которого поиск продолжается двоичным поиском.
+    private static final int WALK_LIMIT = 8;
+
+    private final TabulatedFunction function;
+    private int segmentEnd = 1;
+
+    IndexTabulatedFunctionCursor(TabulatedFunction function) {
+        this.function = function;
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        int size = function.getPointsCount();
+        if (!(x >= function.getPointX(0) && x <= function.getPointX(size - 1))) {
+            return Double.NaN;
+        }
+        // Ищется первая точка i >= 1, для которой x <= x[i] + 1e-10, начиная с запомненной.
+        int i = Math.min(segmentEnd, size - 1);
+        int steps = 0;
+        while (x > function.getPointX(i) + 1e-10) {
+            i++;
+            if (++steps == WALK_LIMIT) {
+                i = binarySearch(x, i, size - 1);
+                break;
+            }
+        }
+        while (i > 1 && x <= function.getPointX(i - 1) + 1e-10) {
+            i--;
+            if (++steps == WALK_LIMIT) {
+                i = binarySearch(x, 1, i);
+                break;
+            }
+        }
+        segmentEnd = i;
+
+        double x2 = function.getPointX(i);
+        if (Math.abs(x - x2) < 1e-10) {
+            return function.getPointY(i);
+        }
+        double y1 = function.getPointY(i - 1);
+        double y2 = function.getPointY(i);
+        double x1 = function.getPointX(i - 1);
+        return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        return function.getLeftDomainBorder();
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        return function.getRightDomainBorder();
+    }
+
+    @Override
+    public void reset() {
+        segmentEnd = 1;
+    }
+
+    // Двоичный поиск первой точки с индексом из [low; high], для которой x <= x[i] + 1e-10.
+    private int binarySearch(double x, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= function.getPointX(mid) + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
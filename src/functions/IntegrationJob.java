@@ -0,0 +1,68 @@
+package functions;
+
+/**
+ * Задание на интегрирование методом трапеций для {@link Functions#integrateAll(java.util.List)}:
+ * функция, отрезок интегрирования и шаг.
+ */
+public final class IntegrationJob {
+    private final Function function;
+    private final double leftX;
+    private final double rightX;
+    private final double step;
+
+    /**
+     * Создаёт задание на интегрирование.
+     *
+     * @param function функция для интегрирования
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @param step шаг интегрирования
+     */
+    public IntegrationJob(Function function, double leftX, double rightX, double step) {
+        this.function = function;
+        this.leftX = leftX;
+        this.rightX = rightX;
+        this.step = step;
+    }
+
+    /**
+     * Возвращает функцию для интегрирования.
+     *
+     * @return функция
+     */
+    public Function getFunction() {
+        return function;
+    }
+
+    /**
+     * Возвращает левую границу интегрирования.
+     *
+     * @return левая граница
+     */
+    public double getLeftX() {
+        return leftX;
+    }
+
+    /**
+     * Возвращает правую границу интегрирования.
+     *
+     * @return правая граница
+     */
+    public double getRightX() {
+        return rightX;
+    }
+
+    /**
+     * Возвращает шаг интегрирования.
+     *
+     * @return шаг
+     */
+    public double getStep() {
+        return step;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%.5f; %.5f], шаг %.5f", leftX, rightX, step);
+    }
+}
@@ -0,0 +1,51 @@
+package functions;
+
+/**
+ * Результат численного интегрирования: приближённое значение интеграла,
+ * оценка его абсолютной погрешности и количество вычислений подынтегральной функции.
+ */
+public class IntegrationResult {
+    private final double value;
+    private final double errorEstimate;
+    private final int evaluationsCount;
+
+    IntegrationResult(double value, double errorEstimate, int evaluationsCount) {
+        this.value = value;
+        this.errorEstimate = errorEstimate;
+        this.evaluationsCount = evaluationsCount;
+    }
+
+    /**
+     * Возвращает приближённое значение интеграла.
+     *
+     * @return значение интеграла
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Возвращает оценку абсолютной погрешности значения интеграла.
+     * Если заданная точность не достигнута (например, исчерпан предел делений отрезка),
+     * оценка больше запрошенной погрешности.
+     *
+     * @return оценка погрешности
+     */
+    public double getErrorEstimate() {
+        return errorEstimate;
+    }
+
+    /**
+     * Возвращает количество вычислений подынтегральной функции.
+     *
+     * @return количество вычислений функции
+     */
+    public int getEvaluationsCount() {
+        return evaluationsCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s ± %s (вычислений функции: %d)", value, errorEstimate, evaluationsCount);
+    }
+}
@@ -0,0 +1,597 @@
+package functions;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Табулированная функция на равномерной сетке, значения которой в точках
+ * вычисляются по исходной функции только при первом обращении.
+ * <p>
+ * Вычисленные значения запоминаются в массиве примитивов {@code double}, а признаки
+ * вычисленных точек хранятся в битовой карте (один бит на точку). Создание функции
+ * не вычисляет ни одного значения, поэтому стоимость табулирования платится только
+ * за те участки сетки, к которым действительно обращались. Узлы сетки те же, что у
+ * {@link TabulatedFunctions#tabulate(Function, double, double, int)}.
+ * <p>
+ * Изменение значения Y точки не меняет сетку: изменённое значение считается вычисленным.
+ * При первом изменении сетки ({@link #setPoint(int, FunctionPoint)}, {@link #setPointX(int, double)},
+ * {@link #addPoint(FunctionPoint)}, {@link #deletePoint(int)}, {@link #addPoints(FunctionPoint[])},
+ * {@link #removePointsInRange(double, double)}) вычисляются все оставшиеся значения, и функция
+ * переходит к хранению точек в {@link DoubleArrayTabulatedFunction}; после этого все методы
+ * ведут себя как у неё. Сериализация также вычисляет все значения и записывает точки;
+ * прочитанная функция исходной функции не хранит.
+ * <p>
+ * Функция не потокобезопасна: даже чтение значений изменяет её состояние. Перед возвратом
+ * разделяемого итератора и потока значений Y вычисляются все значения, поэтому такие потоки
+ * можно обрабатывать параллельно.
+ */
+public class LazyTabulatedFunction implements TabulatedFunction, Externalizable {
+
+    private Function function;
+    private double leftX;
+    private double rightX;
+    private double step;
+    private int size;
+    // Значения функции в точках; значение действительно, только если соответствующий бит computed установлен.
+    private double[] yValues;
+    // Битовая карта вычисленных точек: бит (index & 63) слова computed[index >>> 6].
+    private long[] computed;
+    private int computedCount;
+    // Хранилище точек после первого изменения сетки или чтения из потока. Пока функция ленивая, равно null.
+    private DoubleArrayTabulatedFunction materialized;
+
+    // Конструктор без параметров для сериализации.
+    public LazyTabulatedFunction() {}
+
+    /**
+     * Создаёт ленивую табулированную функцию на равномерной сетке.
+     *
+     * @param function    функция, значения которой табулируются
+     * @param leftX       левая граница отрезка табулирования
+     * @param rightX      правая граница отрезка табулирования
+     * @param pointsCount количество точек табулирования (не меньше 2)
+     * @throws IllegalArgumentException если {@code leftX >= rightX}, {@code pointsCount < 2}
+     *                                  или границы выходят за область определения функции
+     */
+    public LazyTabulatedFunction(Function function, double leftX, double rightX, int pointsCount) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (pointsCount < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+        if (leftX < function.getLeftDomainBorder() || rightX > function.getRightDomainBorder())
+            throw new IllegalArgumentException("Указанные границы для табулирования выходят за область определения функции");
+
+        this.function = function;
+        this.leftX = leftX;
+        this.rightX = rightX;
+        this.step = (rightX - leftX) / (pointsCount - 1);
+        this.size = pointsCount;
+        this.yValues = new double[pointsCount];
+        this.computed = new long[((pointsCount - 1) >>> 6) + 1];
+    }
+
+    // Конструктор копии: копия вычисляет недостающие значения по той же исходной функции.
+    private LazyTabulatedFunction(LazyTabulatedFunction other) {
+        if (other.materialized != null) {
+            this.materialized = (DoubleArrayTabulatedFunction) other.materialized.clone();
+            return;
+        }
+        this.function = other.function;
+        this.leftX = other.leftX;
+        this.rightX = other.rightX;
+        this.step = other.step;
+        this.size = other.size;
+        this.yValues = other.yValues.clone();
+        this.computed = other.computed.clone();
+        this.computedCount = other.computedCount;
+    }
+
+    /**
+     * Возвращает количество точек, значения в которых уже вычислены или заданы.
+     * После изменения сетки все точки считаются вычисленными.
+     *
+     * @return количество вычисленных точек
+     */
+    public int getComputedPointsCount() {
+        return materialized != null ? materialized.getPointsCount() : computedCount;
+    }
+
+    /**
+     * Вычисляет значения во всех точках с индексами из [{@code fromIndex}; {@code toIndex}),
+     * которые ещё не вычислены. Значения подряд идущих невычисленных точек находятся
+     * одним вызовом {@link Function#getFunctionValues(double[], double[])}.
+     *
+     * @param fromIndex индекс первой точки (включительно)
+     * @param toIndex   индекс за последней точкой (не включительно)
+     * @throws IndexOutOfBoundsException если диапазон выходит за пределы точек функции
+     */
+    public void materialize(int fromIndex, int toIndex) {
+        int pointsCount = getPointsCount();
+        if (fromIndex < 0 || toIndex > pointsCount || fromIndex > toIndex) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Диапазон индексов [%d; %d) выходит за пределы точек функции. (На данный момент количество точек в функции - %d)", fromIndex, toIndex, pointsCount)
+            );
+        }
+        if (materialized != null) {
+            return;
+        }
+        int i = fromIndex;
+        while (i < toIndex) {
+            if (isComputed(i)) {
+                i++;
+                continue;
+            }
+            int runEnd = i + 1;
+            while (runEnd < toIndex && !isComputed(runEnd)) {
+                runEnd++;
+            }
+            double[] xs = new double[runEnd - i];
+            double[] ys = new double[runEnd - i];
+            for (int k = i; k < runEnd; k++) {
+                xs[k - i] = x(k);
+            }
+            function.getFunctionValues(xs, ys);
+            for (int k = i; k < runEnd; k++) {
+                store(k, ys[k - i]);
+            }
+            i = runEnd;
+        }
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        return materialized != null ? materialized.getLeftDomainBorder() : leftX;
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        return materialized != null ? materialized.getRightDomainBorder() : rightX;
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        if (materialized != null) {
+            return materialized.getFunctionValue(x);
+        }
+        if (x >= leftX && x <= rightX) {
+            int i = findSegmentEnd(x);
+            double x2 = x(i);
+            if (Math.abs(x - x2) < 1e-10) {
+                return y(i);
+            }
+            double y1 = y(i - 1);
+            double y2 = y(i);
+            double x1 = x(i - 1);
+            return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        if (materialized != null) {
+            materialized.getFunctionValues(x, result);
+        } else {
+            TabulatedFunction.super.getFunctionValues(x, result);
+        }
+    }
+
+    @Override
+    public int getPointsCount() {
+        return materialized != null ? materialized.getPointsCount() : size;
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        if (materialized != null) {
+            return materialized.getPoint(index);
+        }
+        checkIndexBounds(index);
+        return new FunctionPoint(x(index), y(index));
+    }
+
+    @Override
+    public double getPointX(int index) {
+        if (materialized != null) {
+            return materialized.getPointX(index);
+        }
+        checkIndexBounds(index);
+        return x(index);
+    }
+
+    @Override
+    public double getPointY(int index) {
+        if (materialized != null) {
+            return materialized.getPointY(index);
+        }
+        checkIndexBounds(index);
+        return y(index);
+    }
+
+    /**
+     * Заменяет точку. Вычисляет все оставшиеся значения и переводит функцию к хранению точек в массивах.
+     *
+     * @param index индекс точки
+     * @param point новая точка
+     * @throws InappropriateFunctionPointException если X точки нарушает упорядоченность точек
+     */
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        materializeGrid().setPoint(index, point);
+    }
+
+    /**
+     * Изменяет координату X точки. Вычисляет все оставшиеся значения и переводит функцию к хранению точек в массивах.
+     *
+     * @param index индекс точки
+     * @param x новое значение X
+     * @throws InappropriateFunctionPointException если X нарушает упорядоченность точек
+     */
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        materializeGrid().setPointX(index, x);
+    }
+
+    /**
+     * Задаёт значение Y точки. Точка считается вычисленной, исходная функция в ней больше не вызывается.
+     *
+     * @param index индекс точки
+     * @param y новое значение Y
+     */
+    @Override
+    public void setPointY(int index, double y) {
+        if (materialized != null) {
+            materialized.setPointY(index, y);
+            return;
+        }
+        checkIndexBounds(index);
+        store(index, y);
+    }
+
+    /**
+     * Добавляет точку. Вычисляет все оставшиеся значения и переводит функцию к хранению точек в массивах.
+     *
+     * @param point добавляемая точка
+     * @throws InappropriateFunctionPointException если в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        materializeGrid().addPoint(point);
+    }
+
+    /**
+     * Удаляет точку. Вычисляет все оставшиеся значения и переводит функцию к хранению точек в массивах.
+     *
+     * @param index индекс удаляемой точки
+     */
+    @Override
+    public void deletePoint(int index) {
+        materializeGrid().deletePoint(index);
+    }
+
+    @Override
+    public void addPoints(FunctionPoint[] points) throws InappropriateFunctionPointException {
+        materializeGrid().addPoints(points);
+    }
+
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        return materializeGrid().removePointsInRange(fromX, toX);
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, предварительно вычислив недостающие значения.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        if (materialized != null) {
+            materialized.forEachPoint(action);
+            return;
+        }
+        materialize(0, size);
+        for (int i = 0; i < size; i++) {
+            action.accept(i, x(i), yValues[i]);
+        }
+    }
+
+    @Override
+    public double integrate(double leftX, double rightX) {
+        if (materialized != null) {
+            return materialized.integrate(leftX, rightX);
+        }
+        return TabulatedFunction.super.integrate(leftX, rightX);
+    }
+
+    /**
+     * Возвращает разделяемый итератор по точкам функции, предварительно вычислив все значения:
+     * чтение вычисленных точек не изменяет функцию, поэтому итератор можно делить между потоками.
+     *
+     * @return разделяемый итератор по точкам функции
+     */
+    @Override
+    public Spliterator<FunctionPoint> spliterator() {
+        if (materialized != null) {
+            return materialized.spliterator();
+        }
+        materialize(0, size);
+        return TabulatedFunction.super.spliterator();
+    }
+
+    /**
+     * Возвращает поток координат X точек функции. Координаты X находятся по сетке,
+     * значения функции при этом не вычисляются.
+     *
+     * @return поток координат X
+     */
+    @Override
+    public DoubleStream xStream() {
+        if (materialized != null) {
+            return materialized.xStream();
+        }
+        return TabulatedFunction.super.xStream();
+    }
+
+    /**
+     * Возвращает поток координат Y точек функции, предварительно вычислив все значения,
+     * поэтому поток можно сделать параллельным.
+     *
+     * @return поток координат Y
+     */
+    @Override
+    public DoubleStream yStream() {
+        if (materialized != null) {
+            return materialized.yStream();
+        }
+        materialize(0, size);
+        return TabulatedFunction.super.yStream();
+    }
+
+    @Override
+    public TabulatedFunctionCursor cursor() {
+        if (materialized != null) {
+            return materialized.cursor();
+        }
+        return TabulatedFunction.super.cursor();
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        if (materialized != null) {
+            return materialized.iterator();
+        }
+        return new Iterator<FunctionPoint>() {
+            private int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public FunctionPoint next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Нет следующего элемента");
+                }
+                FunctionPoint point = new FunctionPoint(x(index), y(index));
+                index++;
+                return point;
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Удаление не поддерживается");
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Возвращает строковое представление табулированной функции.
+     * Вычисляет значения во всех точках.
+     *
+     * @return строковое представление функции
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        int pointsCount = getPointsCount();
+
+        forEachPoint((i, x, y) -> {
+            sb.append('(').append(x).append("; ").append(y).append(')');
+            if (i < pointsCount - 1) {
+                sb.append(", ");
+            }
+        });
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Сравнивает текущую функцию с другим объектом.
+     * Функции считаются равными, если совпадает количество точек
+     * и все соответствующие точки равны. Вычисляет значения во всех точках.
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если функции равны, иначе {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TabulatedFunction other)) {
+            return false;
+        }
+
+        int pointsCount = getPointsCount();
+        if (pointsCount != other.getPointsCount()) {
+            return false;
+        }
+
+        for (int i = 0; i < pointsCount; i++) {
+            if (Math.abs(getPointX(i) - other.getPointX(i)) >= 1e-10
+                    || Math.abs(getPointY(i) - other.getPointY(i)) >= 1e-10) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Возвращает хэш-код табулированной функции.
+     * Совпадает с хэш-кодом {@link ArrayTabulatedFunction} с теми же точками.
+     * Вычисляет значения во всех точках.
+     *
+     * @return хэш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        int[] hash = {getPointsCount()};
+
+        forEachPoint((i, x, y) ->
+                hash[0] ^= Long.hashCode(Double.doubleToLongBits(x)) ^ Long.hashCode(Double.doubleToLongBits(y)));
+
+        return hash[0];
+    }
+
+    /**
+     * Создаёт копию функции с уже вычисленными значениями.
+     * Недостающие значения копия вычисляет сама по той же исходной функции.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        return new LazyTabulatedFunction(this);
+    }
+
+    // ────────────────────────────
+    // Методы для сериализации
+    // ────────────────────────────
+
+    /**
+     * Вычисляет значения во всех точках и записывает точки функции в формате
+     * {@link DoubleArrayTabulatedFunction}. Исходная функция не записывается.
+     *
+     * @param out поток для записи
+     * @throws IOException при ошибках ввода-вывода
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        if (materialized != null) {
+            materialized.writeExternal(out);
+            return;
+        }
+        materialize(0, size);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(x(i));
+            out.writeDouble(yValues[i]);
+        }
+    }
+
+    /**
+     * Читает точки функции. Прочитанная функция хранит точки в массивах и исходной функции не имеет.
+     *
+     * @param in поток для чтения
+     * @throws IOException при ошибках ввода-вывода
+     * @throws ClassNotFoundException не выбрасывается: поток содержит только примитивы
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        DoubleArrayTabulatedFunction points = new DoubleArrayTabulatedFunction();
+        points.readExternal(in);
+        switchTo(points);
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Вычисляет все оставшиеся значения и переходит к хранению точек в DoubleArrayTabulatedFunction.
+    // Возвращает хранилище, которому передаются изменения сетки.
+    private DoubleArrayTabulatedFunction materializeGrid() {
+        if (materialized == null) {
+            materialize(0, size);
+            switchTo(new DoubleArrayTabulatedFunction(leftX, rightX, yValues));
+        }
+        return materialized;
+    }
+
+    // Переходит к хранению точек в points и освобождает ленивое состояние.
+    private void switchTo(DoubleArrayTabulatedFunction points) {
+        materialized = points;
+        function = null;
+        yValues = null;
+        computed = null;
+        computedCount = 0;
+    }
+
+    // Возвращает координату X точки с индексом index: узлы те же, что при обычном табулировании.
+    private double x(int index) {
+        return index == size - 1 ? rightX : leftX + index * step;
+    }
+
+    // Возвращает значение в точке с индексом index, вычисляя его при первом обращении.
+    private double y(int index) {
+        if (!isComputed(index)) {
+            store(index, function.getFunctionValue(x(index)));
+        }
+        return yValues[index];
+    }
+
+    private boolean isComputed(int index) {
+        return (computed[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Запоминает значение в точке с индексом index и отмечает точку вычисленной.
+    private void store(int index, double y) {
+        yValues[index] = y;
+        long mask = 1L << index;
+        if ((computed[index >>> 6] & mask) == 0) {
+            computed[index >>> 6] |= mask;
+            computedCount++;
+        }
+    }
+
+    // Возвращает индекс i (1 <= i < size) первой точки, для которой x <= x[i] + 1e-10.
+    // Индекс вычисляется за O(1) по шагу сетки с поправкой на погрешность округления.
+    private int findSegmentEnd(double x) {
+        int i = (int) ((x - leftX) / step) + 1;
+        if (i < 1) {
+            i = 1;
+        } else if (i > size - 1) {
+            i = size - 1;
+        }
+        while (i > 1 && x <= x(i - 1) + 1e-10) {
+            i--;
+        }
+        while (i < size - 1 && x > x(i) + 1e-10) {
+            i++;
+        }
+        return i;
+    }
+
+    // Метод для проверки корректности индекса.
+    // (0 <= index < size)
+    private void checkIndexBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Индекс точки должен быть не меньше нуля и меньше количества точек в функции. (На данный момент количество точек в функции - %d)", size)
+            );
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package functions;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Класс для работы с табулированными функциями одной переменной,
@@ -29,17 +38,36 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
     /**
      * Узел двусвязного циклического списка.
      * Содержит точку функции и ссылки на соседние узлы.
+     * При включённом индексе skip-списка также хранит ссылки верхних уровней
+     * и их длины (количество узлов нижнего уровня, через которые ведёт ссылка).
      */
     private static class FunctionNode {
         private FunctionPoint data = null;
         private FunctionNode prev = this;
         private FunctionNode next = this;
+        private FunctionNode[] skipNext = null;
+        private int[] skipWidth = null;
     }
 
+    // Максимальное количество уровней индекса над основным списком.
+    private static final int MAX_SKIP_LEVEL = 16;
+    // Расстояние (в узлах), до которого выгоднее пройти по списку от кэшированного узла, чем спускаться по индексу.
+    private static final int SKIP_LIST_WALK_DISTANCE = 4;
+    // Количество шагов курсора по соседним узлам, после которого узел ищется заново.
+    private static final int CURSOR_WALK_LIMIT = 8;
+
     private final FunctionNode head;
     private int size;
     private FunctionNode lastAccessedNode;
     private int lastAccessedNodeIndex;
+    // Признак равномерной сетки: позволяет вычислить индекс отрезка за O(1).
+    private boolean uniform;
+    private double uniformStep;
+    // Индекс skip-списка над узлами: поиск, вставка и удаление за O(log n) в среднем.
+    private boolean skipListIndexEnabled;
+    private int skipLevel;
+    // Счётчик структурных изменений списка: курсоры по нему узнают, что их узел мог быть удалён.
+    private int modCount;
 
     // Конструктор без параметров для сериализации.
     public LinkedListTabulatedFunction() {
@@ -72,6 +100,8 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         addNodeToTail().data = new FunctionPoint(rightX, 0);
         lastAccessedNode = head.next;
         lastAccessedNodeIndex = 0;
+        uniform = true;
+        uniformStep = step;
     }
 
     /**
@@ -97,6 +127,8 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         addNodeToTail().data = new FunctionPoint(rightX, values[pointsCount-1]);
         lastAccessedNode = head.next;
         lastAccessedNodeIndex = 0;
+        uniform = true;
+        uniformStep = step;
     }
 
     /**
@@ -122,6 +154,7 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         }
         lastAccessedNode = head.next;
         lastAccessedNodeIndex = 0;
+        detectUniformity();
     }
 
     @Override
@@ -137,24 +170,62 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
     @Override
     public double getFunctionValue(double x) {
         if (x >= getLeftDomainBorder() && x <= getRightDomainBorder()) {
-            FunctionNode tempNode = head.next;
-            for (int i = 1; i < size; i++) {
-                if (x <= tempNode.next.data.getX() + 1e-10) {
-                    if (Math.abs(x - tempNode.next.data.getX()) < 1e-10) {
-                        return tempNode.next.data.getY();
-                    }
-                    double y1 = tempNode.data.getY();
-                    double y2 = tempNode.next.data.getY();
-                    double x1 = tempNode.data.getX();
-                    double x2 = tempNode.next.data.getX();
-                    return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
-                }
-                tempNode = tempNode.next;
+            FunctionNode node = findSegmentEndNode(x);
+            if (Math.abs(x - node.data.getX()) < 1e-10) {
+                return node.data.getY();
             }
+            double y1 = node.prev.data.getY();
+            double y2 = node.data.getY();
+            double x1 = node.prev.data.getX();
+            double x2 = node.data.getX();
+            return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
         }
         return Double.NaN;
     }
 
+    /**
+     * Вычисляет значения функции для массива аргументов.
+     * Если аргументы упорядочены по возрастанию, узлы списка проходятся один раз
+     * навстречу аргументам, иначе значения вычисляются по одному.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        if (!TabulatedFunctions.isNonDecreasing(x)) {
+            for (int k = 0; k < x.length; k++) {
+                result[k] = getFunctionValue(x[k]);
+            }
+            return;
+        }
+        double leftX = getLeftDomainBorder();
+        double rightX = getRightDomainBorder();
+        FunctionNode node = null;
+        for (int k = 0; k < x.length; k++) {
+            double xk = x[k];
+            if (xk < leftX || xk > rightX) {
+                result[k] = Double.NaN;
+                continue;
+            }
+            if (node == null) {
+                node = findSegmentEndNode(xk);
+            }
+            while (xk > node.data.getX() + 1e-10) {
+                node = node.next;
+            }
+            if (Math.abs(xk - node.data.getX()) < 1e-10) {
+                result[k] = node.data.getY();
+                continue;
+            }
+            double y1 = node.prev.data.getY();
+            double y2 = node.data.getY();
+            double x1 = node.prev.data.getX();
+            double x2 = node.data.getX();
+            result[k] = y1 + (y2 - y1) * (xk - x1) / (x2 - x1);
+        }
+    }
+
     @Override
     public int getPointsCount() {
         return size;
@@ -183,6 +254,7 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         checkIndexBounds(index);
         checkPointOrder(index, point.getX());
         getNodeByIndex(index).data = new FunctionPoint(point);
+        updateUniformity(index);
     }
 
     @Override
@@ -190,6 +262,7 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         checkIndexBounds(index);
         checkPointOrder(index, x);
         getNodeByIndex(index).data.setX(x);
+        updateUniformity(index);
     }
 
     @Override
@@ -205,33 +278,470 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
             throw new IllegalStateException("Нельзя удалить точку из функции, содержащей меньше трёх точек.");
         }
         deleteNodeByIndex(index);
+        // Удаление крайней точки сохраняет равномерность сетки, удаление внутренней - нарушает.
+        if (index != 0 && index != size) {
+            uniform = false;
+        }
     }
 
     @Override
     public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
         double pointX = point.getX();
-        FunctionNode tempNode = head.next;
-        for (int i = 0; i < size; i++) {
-            if (Math.abs(tempNode.data.getX() - pointX) < 1e-10) {
+
+        // Поиск первого узла с координатой X не меньше pointX и его индекса за один проход.
+        FunctionNode node = head;
+        int index = -1;
+        if (skipListIndexEnabled) {
+            for (int level = skipLevel - 1; level >= 0; level--) {
+                while (node.skipNext[level] != null && node.skipNext[level].data.getX() < pointX) {
+                    index += node.skipWidth[level];
+                    node = node.skipNext[level];
+                }
+            }
+        }
+        while (node.next != head && node.next.data.getX() < pointX) {
+            node = node.next;
+            index++;
+        }
+        FunctionNode nextNode = node.next;
+        index++;
+
+        // Точки упорядочены по X, поэтому совпадать с новой точкой могут только её будущие соседи.
+        if ((nextNode != head && Math.abs(nextNode.data.getX() - pointX) < 1e-10)
+                || (node != head && Math.abs(node.data.getX() - pointX) < 1e-10)) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+            );
+        }
+
+        if (nextNode == head) {
+            // Точка, продолжающая равномерную сетку вправо, не нарушает её равномерности.
+            if (Math.abs(pointX - getRightDomainBorder() - uniformStep) > uniformStep * 1e-9) {
+                uniform = false;
+            }
+            addNodeToTail().data = new FunctionPoint(point);
+        } else {
+            uniform = false;
+            addNodeBefore(nextNode, index).data = new FunctionPoint(point);
+        }
+    }
+
+    /**
+     * Добавляет в функцию сразу несколько точек за один проход по списку O(n + k log k).
+     * Все точки проверяются до изменения функции; индекс skip-списка, если он включён,
+     * перестраивается один раз после вставки.
+     *
+     * @param newPoints добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(newPoints);
+        // Проверка всех точек до изменения функции: один проход навстречу узлам списка.
+        FunctionNode node = head.next;
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            while (node != head && node.data.getX() < pointX) {
+                node = node.next;
+            }
+            if ((node != head && Math.abs(node.data.getX() - pointX) < 1e-10)
+                    || (node.prev != head && Math.abs(node.prev.data.getX() - pointX) < 1e-10)) {
                 throw new InappropriateFunctionPointException(
                         String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
                 );
             }
-            tempNode = tempNode.next;
         }
-        tempNode = head.next;
-        if (pointX > getRightDomainBorder()) {
-            addNodeToTail().data = new FunctionPoint(point);
+
+        // Вставка тем же проходом: каждый новый узел связывается с соседями за O(1).
+        node = head.next;
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            while (node != head && node.data.getX() < pointX) {
+                node = node.next;
+            }
+            FunctionNode newNode = new FunctionNode();
+            newNode.data = new FunctionPoint(point);
+            newNode.prev = node.prev;
+            newNode.next = node;
+            node.prev.next = newNode;
+            node.prev = newNode;
+        }
+        size += sortedPoints.length;
+        afterBulkModification();
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}],
+     * отсоединяя весь участок списка сразу.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        FunctionNode first = head.next;
+        while (first != head && first.data.getX() < fromX) {
+            first = first.next;
+        }
+        FunctionNode last = first;
+        int count = 0;
+        while (last != head && last.data.getX() <= toX) {
+            last = last.next;
+            count++;
+        }
+        if (size - count < 2) {
+            throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        FunctionNode node = first;
+        first.prev.next = last;
+        last.prev = first.prev;
+        while (node != last) {
+            FunctionNode nextNode = node.next;
+            node.prev = null;
+            node.next = null;
+            node.skipNext = null;
+            node.skipWidth = null;
+            node = nextNode;
+        }
+        size -= count;
+        afterBulkModification();
+        return count;
+    }
+
+    /**
+     * Включает или отключает индекс skip-списка над узлами функции.
+     * При включённом индексе поиск значения функции, вставка, удаление и доступ по индексу
+     * выполняются за O(log n) в среднем ценой дополнительной памяти на ссылки верхних уровней.
+     * Включение строит индекс за O(n).
+     *
+     * @param enabled {@code true}, чтобы построить индекс, {@code false}, чтобы удалить его
+     */
+    public void setSkipListIndexEnabled(boolean enabled) {
+        if (enabled == skipListIndexEnabled) {
+            return;
+        }
+        if (enabled) {
+            buildSkipList();
         } else {
-            for (int i = 0; i < size; i++) {
-                if (pointX < tempNode.data.getX()) {
-                    addNodeByIndex(i).data = new FunctionPoint(point);
-                    break;
+            clearSkipList();
+        }
+        skipListIndexEnabled = enabled;
+    }
+
+    /**
+     * Проверяет, включён ли индекс skip-списка.
+     *
+     * @return {@code true}, если индекс включён
+     */
+    public boolean isSkipListIndexEnabled() {
+        return skipListIndexEnabled;
+    }
+
+    /**
+     * Вычисляет точное значение интеграла функции по отрезку [{@code leftX}; {@code rightX}].
+     * Первый узел внутри отрезка находится так же, как при вычислении значения функции
+     * (спуском по skip-списку, если он включён), следующие узлы проходятся по ссылкам.
+     *
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @return значение интеграла
+     * @throws IllegalArgumentException если {@code leftX > rightX} или отрезок выходит за область определения функции
+     */
+    @Override
+    public double integrate(double leftX, double rightX) {
+        TabulatedFunctions.checkIntegrationRange(leftX, rightX, getLeftDomainBorder(), getRightDomainBorder());
+        FunctionNode node = findSegmentEndNode(leftX);
+        if (node.data.getX() <= leftX) {
+            node = node.next;
+        }
+        double integral = 0.0;
+        double x1 = leftX;
+        double y1 = getFunctionValue(leftX);
+        while (node != head && node.data.getX() < rightX) {
+            double x2 = node.data.getX();
+            double y2 = node.data.getY();
+            integral += (y1 + y2) * (x2 - x1) / 2.0;
+            x1 = x2;
+            y1 = y2;
+            node = node.next;
+        }
+        integral += (y1 + getFunctionValue(rightX)) * (rightX - x1) / 2.0;
+        return integral;
+    }
+
+    /**
+     * Возвращает новый курсор, перемещающийся по узлам списка.
+     * Курсор не использует общий кэш последнего узла, поэтому курсоры разных потоков
+     * не мешают друг другу, пока функция не изменяется.
+     *
+     * @return курсор функции
+     */
+    @Override
+    public TabulatedFunctionCursor cursor() {
+        return new TabulatedFunctionCursor() {
+            private FunctionNode node = null;
+            private int expectedModCount;
+
+            @Override
+            public double getFunctionValue(double x) {
+                if (!(x >= LinkedListTabulatedFunction.this.getLeftDomainBorder()
+                        && x <= LinkedListTabulatedFunction.this.getRightDomainBorder())) {
+                    return Double.NaN;
+                }
+                if (node == null || expectedModCount != modCount) {
+                    node = findSegmentEndNode(x);
+                    expectedModCount = modCount;
+                } else {
+                    int steps = 0;
+                    while (node.next != head && x > node.data.getX() + 1e-10 && steps < CURSOR_WALK_LIMIT) {
+                        node = node.next;
+                        steps++;
+                    }
+                    while (node.prev != head && node.prev != head.next && x <= node.prev.data.getX() + 1e-10
+                            && steps < CURSOR_WALK_LIMIT) {
+                        node = node.prev;
+                        steps++;
+                    }
+                    if (steps == CURSOR_WALK_LIMIT) {
+                        node = findSegmentEndNode(x);
+                    } else if (node == head.next) {
+                        node = node.next;
+                    }
+                }
+                if (Math.abs(x - node.data.getX()) < 1e-10) {
+                    return node.data.getY();
+                }
+                double y1 = node.prev.data.getY();
+                double y2 = node.data.getY();
+                double x1 = node.prev.data.getX();
+                double x2 = node.data.getX();
+                return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+            }
+
+            @Override
+            public double getLeftDomainBorder() {
+                return LinkedListTabulatedFunction.this.getLeftDomainBorder();
+            }
+
+            @Override
+            public double getRightDomainBorder() {
+                return LinkedListTabulatedFunction.this.getRightDomainBorder();
+            }
+
+            @Override
+            public void reset() {
+                node = null;
+            }
+        };
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, читая координаты прямо из узлов списка за один проход.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        FunctionNode current = head.next;
+        for (int i = 0; i < size; i++) {
+            action.accept(i, current.data.getX(), current.data.getY());
+            current = current.next;
+        }
+    }
+
+    /**
+     * Возвращает разделяемый итератор по точкам функции, перемещающийся по узлам списка.
+     * В отличие от чтения по индексу, не использует общий кэш последнего узла,
+     * поэтому части итератора можно обрабатывать в разных потоках одновременно.
+     *
+     * @return разделяемый итератор по точкам функции
+     */
+    @Override
+    public Spliterator<FunctionPoint> spliterator() {
+        return new NodePointSpliterator(head.next, 0, size);
+    }
+
+    /**
+     * Возвращает поток координат X точек функции, перемещающийся по узлам списка.
+     *
+     * @return поток координат X
+     */
+    @Override
+    public DoubleStream xStream() {
+        return StreamSupport.doubleStream(new NodeCoordinateSpliterator(head.next, 0, size, false), false);
+    }
+
+    /**
+     * Возвращает поток координат Y точек функции, перемещающийся по узлам списка.
+     *
+     * @return поток координат Y
+     */
+    @Override
+    public DoubleStream yStream() {
+        return StreamSupport.doubleStream(new NodeCoordinateSpliterator(head.next, 0, size, true), false);
+    }
+
+    /**
+     * Диапазон узлов [index; fence) для разделяемых итераторов по списку.
+     * Делится пополам проходом до среднего узла или спуском по индексу skip-списка, если он включён.
+     * Только читает узлы, поэтому разные части диапазона можно обходить в разных потоках.
+     */
+    private abstract class NodeRange {
+        FunctionNode node;
+        int index;
+        final int fence;
+        final int expectedModCount;
+        // Узел начала диапазона до последнего деления.
+        FunctionNode prefixNode;
+
+        NodeRange(FunctionNode node, int index, int fence) {
+            this.node = node;
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = modCount;
+        }
+
+        // Возвращает индекс середины диапазона и перемещает текущий узел на неё,
+        // или -1, если диапазон слишком мал для деления. Узел начала диапазона сохраняется в prefixNode.
+        int splitMiddle() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return -1;
+            }
+            checkForComodification();
+            prefixNode = node;
+            if (skipListIndexEnabled && mid - index > SKIP_LIST_WALK_DISTANCE) {
+                node = getNodeByIndexFromSkipList(mid);
+            } else {
+                for (int i = index; i < mid; i++) {
+                    node = node.next;
                 }
-                tempNode = tempNode.next;
+            }
+            return mid;
+        }
+
+        void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("Функция была изменена во время обхода");
+            }
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+    }
+
+    // Разделяемый итератор по точкам, создающий копию точки каждого узла.
+    private final class NodePointSpliterator extends NodeRange implements Spliterator<FunctionPoint> {
+        NodePointSpliterator(FunctionNode node, int index, int fence) {
+            super(node, index, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FunctionPoint> action) {
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            action.accept(new FunctionPoint(node.data));
+            node = node.next;
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super FunctionPoint> action) {
+            // Проверка на каждом шаге: узлы, удалённые во время обхода, уже отсоединены от списка.
+            for (; index < fence; index++) {
+                checkForComodification();
+                action.accept(new FunctionPoint(node.data));
+                node = node.next;
+            }
+        }
+
+        @Override
+        public Spliterator<FunctionPoint> trySplit() {
+            int from = index;
+            int mid = splitMiddle();
+            if (mid < 0) {
+                return null;
+            }
+            index = mid;
+            return new NodePointSpliterator(prefixNode, from, mid);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    // Разделяемый итератор по координатам X или Y узлов, не создающий объектов.
+    private final class NodeCoordinateSpliterator extends NodeRange implements Spliterator.OfDouble {
+        private final boolean yCoordinate;
+
+        NodeCoordinateSpliterator(FunctionNode node, int index, int fence, boolean yCoordinate) {
+            super(node, index, fence);
+            this.yCoordinate = yCoordinate;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            action.accept(yCoordinate ? node.data.getY() : node.data.getX());
+            node = node.next;
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            // Проверка на каждом шаге: узлы, удалённые во время обхода, уже отсоединены от списка.
+            for (; index < fence; index++) {
+                checkForComodification();
+                action.accept(yCoordinate ? node.data.getY() : node.data.getX());
+                node = node.next;
             }
         }
 
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int from = index;
+            int mid = splitMiddle();
+            if (mid < 0) {
+                return null;
+            }
+            index = mid;
+            return new NodeCoordinateSpliterator(prefixNode, from, mid, yCoordinate);
+        }
+
+        @Override
+        public int characteristics() {
+            return yCoordinate ? ORDERED | SIZED | SUBSIZED : ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT;
+        }
+
+        // Координаты X упорядочены по естественному порядку чисел.
+        @Override
+        public Comparator<? super Double> getComparator() {
+            if (yCoordinate) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }
     }
 
     // ───────────────────────────────
@@ -276,14 +786,12 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("{");
-        FunctionNode current = head.next;
-        for (int i = 0; i < size; i++) {
-            sb.append(current.data);
-            if (i < size - 1) {
+        forEachPoint((i, x, y) -> {
+            if (i > 0) {
                 sb.append(", ");
             }
-            current = current.next;
-        }
+            sb.append('(').append(x).append("; ").append(y).append(')');
+        });
         sb.append("}");
         return sb.toString();
     }
@@ -322,7 +830,8 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         }
         FunctionNode current = head.next;
         for (int i = 0; i < size; i++) {
-            if (!current.data.equals(other.getPoint(i))) {
+            if (Math.abs(current.data.getX() - other.getPointX(i)) >= 1e-10
+                    || Math.abs(current.data.getY() - other.getPointY(i)) >= 1e-10) {
                 return false;
             }
             current = current.next;
@@ -337,13 +846,9 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
      */
     @Override
     public int hashCode() {
-        int hash = size;
-        FunctionNode current = head.next;
-        for (int i = 0; i < size; i++) {
-            hash ^= current.data.hashCode();
-            current = current.next;
-        }
-        return hash;
+        int[] hash = {size};
+        forEachPoint((i, x, y) -> hash[0] ^= Long.hashCode(Double.doubleToLongBits(x)) ^ Long.hashCode(Double.doubleToLongBits(y)));
+        return hash[0];
     }
 
     /**
@@ -374,6 +879,9 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
             clone.lastAccessedNode = clone.head.next;
             clone.lastAccessedNodeIndex = 0;
         }
+        clone.uniform = uniform;
+        clone.uniformStep = uniformStep;
+        clone.setSkipListIndexEnabled(skipListIndexEnabled);
         return clone;
     }
 
@@ -406,6 +914,7 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
 
         lastAccessedNode = head.next;
         lastAccessedNodeIndex = 0;
+        detectUniformity();
     }
 
 
@@ -427,7 +936,9 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
                 Integer.MAX_VALUE;
 
         FunctionNode resultNode;
-        if (distLast < distHead) {
+        if (skipListIndexEnabled && Math.min(distLast, distHead) > SKIP_LIST_WALK_DISTANCE) {
+            resultNode = getNodeByIndexFromSkipList(index);
+        } else if (distLast < distHead) {
             resultNode = getNodeByIndexFromLast(index);
         } else {
             resultNode = getNodeByIndexFromHead(index);
@@ -475,6 +986,229 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         return resultNode;
     }
 
+    // Возвращает первый узел (не считая первого узла списка), для которого x <= x узла + 1e-10.
+    // Искомый отрезок интерполяции - [узел.prev; узел]. Значение x должно лежать в области определения.
+    // Кэш последнего узла только читается, поэтому метод безопасен для одновременного чтения.
+    private FunctionNode findSegmentEndNode(double x) {
+        if (skipListIndexEnabled) {
+            return findSegmentEndNodeInSkipList(x);
+        }
+        FunctionNode hint = lastAccessedNode;
+        if (uniform) {
+            int index = (int) ((x - head.next.data.getX()) / uniformStep) + 1;
+            if (index < 1) {
+                index = 1;
+            } else if (index > size - 1) {
+                index = size - 1;
+            }
+            // На равномерной сетке расстояние по X пропорционально расстоянию в узлах.
+            if (hint != null && Math.abs(x - hint.data.getX()) / uniformStep < Math.min(index, size - 1 - index)) {
+                return walkToSegmentEndNode(hint, x);
+            }
+            return walkToSegmentEndNode(getNodeByIndexFromHead(index), x);
+        }
+        // Обход начинается с ближайшего к x из концов списка и последнего использованного узла.
+        double distLeft = x - getLeftDomainBorder();
+        double distRight = getRightDomainBorder() - x;
+        FunctionNode start = distLeft <= distRight ? head.next : head.prev;
+        if (hint != null && Math.abs(x - hint.data.getX()) < Math.min(distLeft, distRight)) {
+            start = hint;
+        }
+        return walkToSegmentEndNode(start, x);
+    }
+
+    // Находит узел для findSegmentEndNode, двигаясь по списку от узла start в нужную сторону.
+    private FunctionNode walkToSegmentEndNode(FunctionNode start, double x) {
+        FunctionNode node = start;
+        while (node.next != head && x > node.data.getX() + 1e-10) {
+            node = node.next;
+        }
+        while (node.prev != head && node.prev != head.next && x <= node.prev.data.getX() + 1e-10) {
+            node = node.prev;
+        }
+        return node == head.next ? node.next : node;
+    }
+
+    // Находит узел для findSegmentEndNode спуском по уровням skip-списка.
+    private FunctionNode findSegmentEndNodeInSkipList(double x) {
+        FunctionNode node = head;
+        for (int level = skipLevel - 1; level >= 0; level--) {
+            while (node.skipNext[level] != null && node.skipNext[level].data.getX() + 1e-10 < x) {
+                node = node.skipNext[level];
+            }
+        }
+        while (node.next != head && node.next.data.getX() + 1e-10 < x) {
+            node = node.next;
+        }
+        node = node.next;
+        return node == head.next ? node.next : node;
+    }
+
+    // Находит узел по индексу спуском по уровням skip-списка.
+    private FunctionNode getNodeByIndexFromSkipList(int index) {
+        FunctionNode node = head;
+        int position = -1;
+        for (int level = skipLevel - 1; level >= 0; level--) {
+            while (node.skipNext[level] != null && position + node.skipWidth[level] <= index) {
+                position += node.skipWidth[level];
+                node = node.skipNext[level];
+            }
+        }
+        while (position < index) {
+            node = node.next;
+            position++;
+        }
+        return node;
+    }
+
+    // Строит индекс skip-списка над текущими узлами.
+    private void buildSkipList() {
+        head.skipNext = new FunctionNode[MAX_SKIP_LEVEL];
+        head.skipWidth = new int[MAX_SKIP_LEVEL];
+        FunctionNode[] lastNodes = new FunctionNode[MAX_SKIP_LEVEL];
+        int[] lastPositions = new int[MAX_SKIP_LEVEL];
+        Arrays.fill(lastNodes, head);
+        Arrays.fill(lastPositions, -1);
+        skipLevel = 0;
+
+        FunctionNode node = head.next;
+        for (int position = 0; position < size; position++) {
+            int height = randomSkipHeight();
+            if (height > 0) {
+                node.skipNext = new FunctionNode[height];
+                node.skipWidth = new int[height];
+            }
+            for (int level = 0; level < height; level++) {
+                lastNodes[level].skipNext[level] = node;
+                lastNodes[level].skipWidth[level] = position - lastPositions[level];
+                lastNodes[level] = node;
+                lastPositions[level] = position;
+            }
+            skipLevel = Math.max(skipLevel, height);
+            node = node.next;
+        }
+    }
+
+    // Удаляет индекс skip-списка.
+    private void clearSkipList() {
+        FunctionNode node = head.next;
+        for (int i = 0; i < size; i++) {
+            node.skipNext = null;
+            node.skipWidth = null;
+            node = node.next;
+        }
+        head.skipNext = null;
+        head.skipWidth = null;
+        skipLevel = 0;
+    }
+
+    // Заполняет массивы последними на каждом уровне узлами, стоящими перед позицией index, и их позициями.
+    private void findSkipListPredecessors(int index, FunctionNode[] predecessors, int[] positions) {
+        Arrays.fill(predecessors, head);
+        Arrays.fill(positions, -1);
+        FunctionNode node = head;
+        int position = -1;
+        for (int level = skipLevel - 1; level >= 0; level--) {
+            while (node.skipNext[level] != null && position + node.skipWidth[level] < index) {
+                position += node.skipWidth[level];
+                node = node.skipNext[level];
+            }
+            predecessors[level] = node;
+            positions[level] = position;
+        }
+    }
+
+    // Добавляет в индекс узел, вставленный в основной список на позицию index.
+    private void insertIntoSkipList(FunctionNode newNode, int index) {
+        FunctionNode[] predecessors = new FunctionNode[MAX_SKIP_LEVEL];
+        int[] positions = new int[MAX_SKIP_LEVEL];
+        findSkipListPredecessors(index, predecessors, positions);
+
+        int height = randomSkipHeight();
+        if (height > 0) {
+            newNode.skipNext = new FunctionNode[height];
+            newNode.skipWidth = new int[height];
+        }
+        int levels = Math.max(height, skipLevel);
+        for (int level = 0; level < levels; level++) {
+            FunctionNode predecessor = predecessors[level];
+            if (level < height) {
+                newNode.skipNext[level] = predecessor.skipNext[level];
+                if (newNode.skipNext[level] != null) {
+                    newNode.skipWidth[level] = positions[level] + predecessor.skipWidth[level] + 1 - index;
+                }
+                predecessor.skipNext[level] = newNode;
+                predecessor.skipWidth[level] = index - positions[level];
+            } else if (predecessor.skipNext[level] != null) {
+                predecessor.skipWidth[level]++;
+            }
+        }
+        skipLevel = levels;
+    }
+
+    // Удаляет из индекса узел, стоящий в основном списке на позиции index.
+    private void removeFromSkipList(FunctionNode deleteNode, int index) {
+        FunctionNode[] predecessors = new FunctionNode[MAX_SKIP_LEVEL];
+        int[] positions = new int[MAX_SKIP_LEVEL];
+        findSkipListPredecessors(index, predecessors, positions);
+
+        for (int level = 0; level < skipLevel; level++) {
+            FunctionNode predecessor = predecessors[level];
+            if (predecessor.skipNext[level] == deleteNode) {
+                predecessor.skipNext[level] = deleteNode.skipNext[level];
+                predecessor.skipWidth[level] += deleteNode.skipWidth[level] - 1;
+            } else if (predecessor.skipNext[level] != null) {
+                predecessor.skipWidth[level]--;
+            }
+        }
+        while (skipLevel > 0 && head.skipNext[skipLevel - 1] == null) {
+            skipLevel--;
+        }
+        deleteNode.skipNext = null;
+        deleteNode.skipWidth = null;
+    }
+
+    // Возвращает случайную высоту узла в индексе: уровень k достигается с вероятностью 4^(-k).
+    private static int randomSkipHeight() {
+        return Math.min(Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt()) / 2, MAX_SKIP_LEVEL);
+    }
+
+    // Проверяет, образуют ли координаты X точек равномерную сетку.
+    private void detectUniformity() {
+        double leftX = head.next.data.getX();
+        uniformStep = (head.prev.data.getX() - leftX) / (size - 1);
+        uniform = true;
+        FunctionNode node = head.next.next;
+        for (int i = 1; i < size - 1; i++) {
+            if (Math.abs(node.data.getX() - (leftX + i * uniformStep)) > uniformStep * 1e-9) {
+                uniform = false;
+                return;
+            }
+            node = node.next;
+        }
+    }
+
+    // Обновляет признак равномерности после изменения координаты X точки с индексом index.
+    private void updateUniformity(int index) {
+        if (uniform && (index == 0 || index == size - 1
+                || Math.abs(getPointX(index) - (head.next.data.getX() + index * uniformStep)) > uniformStep * 1e-9)) {
+            uniform = false;
+        }
+    }
+
+    // Восстанавливает кэш последнего узла, индекс skip-списка и признак равномерности
+    // после группового изменения списка.
+    private void afterBulkModification() {
+        modCount++;
+        lastAccessedNode = head.next;
+        lastAccessedNodeIndex = 0;
+        if (skipListIndexEnabled) {
+            clearSkipList();
+            buildSkipList();
+        }
+        detectUniformity();
+    }
+
     // Добавляет новый пустой узел в конец списка.
 
     private FunctionNode addNodeToTail() {
@@ -485,7 +1219,11 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         head.prev.next = newNode;
         head.prev = newNode;
 
+        if (skipListIndexEnabled) {
+            insertIntoSkipList(newNode, size);
+        }
         size++;
+        modCount++;
 
         if (lastAccessedNodeIndex == size - 2) {
             lastAccessedNode = newNode;
@@ -495,19 +1233,22 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         return newNode;
     }
 
-    // Вставляет новый узел перед элементом с заданным индексом.
+    // Вставляет новый узел перед узлом placeForNewNode, стоящим на позиции index.
     // Возвращает ссылку на новый узел.
-    private FunctionNode addNodeByIndex(int index) {
+    private FunctionNode addNodeBefore(FunctionNode placeForNewNode, int index) {
         checkIndexBounds(index);
         FunctionNode newNode = new FunctionNode();
-        FunctionNode placeForNewNode = getNodeByIndex(index);
 
         placeForNewNode.prev.next = newNode;
         newNode.prev = placeForNewNode.prev;
         placeForNewNode.prev = newNode;
         newNode.next = placeForNewNode;
 
+        if (skipListIndexEnabled) {
+            insertIntoSkipList(newNode, index);
+        }
         size++;
+        modCount++;
 
         if (lastAccessedNodeIndex >= index) {
             lastAccessedNodeIndex++;
@@ -523,10 +1264,15 @@ public class LinkedListTabulatedFunction implements TabulatedFunction, Externali
         FunctionNode deleteNode = getNodeByIndex(index);
         FunctionNode nextNode = deleteNode.next;
 
+        if (skipListIndexEnabled) {
+            removeFromSkipList(deleteNode, index);
+        }
+
         deleteNode.prev.next = deleteNode.next;
         deleteNode.next.prev = deleteNode.prev;
 
         size--;
+        modCount++;
 
         if (lastAccessedNode == deleteNode) {
             if (index == size) { // удаляли последний
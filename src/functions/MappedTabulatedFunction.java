@@ -0,0 +1,344 @@
+package functions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Табулированная функция только для чтения, отображённая в память из файла
+ * двоичного формата {@link TabulatedFunctions#outputTabulatedFunction(TabulatedFunction, java.io.OutputStream)}:
+ * {@code int} количество точек, затем пары {@code double x, double y}.
+ * <p>
+ * Открытие файла выполняется за O(1): точки не копируются и не проверяются,
+ * страницы файла подгружаются системой только при обращении к ним.
+ * Значения функции вычисляются двоичным поиском прямо по отображённым страницам.
+ * Файл должен содержать точки, упорядоченные по X, как при записи существующей функции.
+ * <p>
+ * Методы изменения точек выбрасывают {@link UnsupportedOperationException}.
+ */
+public class MappedTabulatedFunction implements TabulatedFunction, AutoCloseable {
+
+    // Каждый отображаемый фрагмент содержит 2^26 точек (1 ГБ), так как размер одного отображения ограничен 2 ГБ.
+    private static final int CHUNK_SHIFT = 26;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    private static final int POINT_BYTES = 2 * Double.BYTES;
+    private static final int HEADER_BYTES = Integer.BYTES;
+
+    // Поля volatile: функцию могут закрыть из другого потока. Методы чтения берут ссылку
+    // на фрагменты один раз, поэтому после close() они выбрасывают IllegalStateException, а не NullPointerException.
+    private volatile ByteBuffer[] chunks;
+    private final int size;
+    private volatile boolean closed;
+
+    /**
+     * Отображает в память файл с табулированной функцией.
+     *
+     * @param file путь к файлу
+     * @throws IOException при ошибках ввода-вывода или если файл короче, чем указано в заголовке
+     * @throws IllegalArgumentException если в файле меньше двух точек
+     */
+    public MappedTabulatedFunction(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Файл не содержит заголовка табулированной функции");
+                }
+            }
+            size = header.getInt(0);
+            if (size < 2)
+                throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+            long requiredBytes = HEADER_BYTES + (long) size * POINT_BYTES;
+            if (channel.size() < requiredBytes) {
+                throw new IOException(
+                        String.format("Файл содержит меньше данных, чем указано в заголовке (%d байт из %d)", channel.size(), requiredBytes)
+                );
+            }
+
+            // Отображение остаётся действительным после закрытия канала.
+            int chunksCount = ((size - 1) >>> CHUNK_SHIFT) + 1;
+            ByteBuffer[] mapped = new ByteBuffer[chunksCount];
+            for (int k = 0; k < chunksCount; k++) {
+                long firstPoint = (long) k << CHUNK_SHIFT;
+                long pointsInChunk = Math.min(1L << CHUNK_SHIFT, size - firstPoint);
+                mapped[k] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + firstPoint * POINT_BYTES, pointsInChunk * POINT_BYTES);
+            }
+            chunks = mapped;
+        }
+    }
+
+    // Конструктор копии, разделяющей с исходной функцией отображённые страницы.
+    private MappedTabulatedFunction(ByteBuffer[] chunks, MappedTabulatedFunction function) {
+        this.chunks = chunks;
+        size = function.size;
+    }
+
+    /**
+     * Освобождает ссылки на отображённые страницы. Отображение снимается,
+     * когда на него не остаётся ссылок. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        chunks = null;
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        return x(openChunks(), 0);
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        return x(openChunks(), size - 1);
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        ByteBuffer[] chunks = openChunks();
+        if (x >= x(chunks, 0) && x <= x(chunks, size - 1)) {
+            // Двоичный поиск первой точки i >= 1, для которой x <= x[i] + 1e-10.
+            int low = 1;
+            int high = size - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (x <= x(chunks, mid) + 1e-10) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            double x2 = x(chunks, low);
+            if (Math.abs(x - x2) < 1e-10) {
+                return y(chunks, low);
+            }
+            double y1 = y(chunks, low - 1);
+            double y2 = y(chunks, low);
+            double x1 = x(chunks, low - 1);
+            return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public int getPointsCount() {
+        openChunks();
+        return size;
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        ByteBuffer[] chunks = openChunks();
+        checkIndexBounds(index);
+        return new FunctionPoint(x(chunks, index), y(chunks, index));
+    }
+
+    @Override
+    public double getPointX(int index) {
+        ByteBuffer[] chunks = openChunks();
+        checkIndexBounds(index);
+        return x(chunks, index);
+    }
+
+    @Override
+    public double getPointY(int index) {
+        ByteBuffer[] chunks = openChunks();
+        checkIndexBounds(index);
+        return y(chunks, index);
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) {
+        throw new UnsupportedOperationException("Отображённая в память функция доступна только для чтения");
+    }
+
+    @Override
+    public void setPointX(int index, double x) {
+        throw new UnsupportedOperationException("Отображённая в память функция доступна только для чтения");
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        throw new UnsupportedOperationException("Отображённая в память функция доступна только для чтения");
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) {
+        throw new UnsupportedOperationException("Отображённая в память функция доступна только для чтения");
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        throw new UnsupportedOperationException("Отображённая в память функция доступна только для чтения");
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, читая координаты прямо из отображённых страниц.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        ByteBuffer[] chunks = openChunks();
+        for (int i = 0; i < size; i++) {
+            action.accept(i, x(chunks, i), y(chunks, i));
+        }
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        openChunks();
+        return new Iterator<FunctionPoint>() {
+            private int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public FunctionPoint next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Нет следующего элемента");
+                }
+                ByteBuffer[] chunks = openChunks();
+                FunctionPoint point = new FunctionPoint(x(chunks, index), y(chunks, index));
+                index++;
+                return point;
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Удаление не поддерживается");
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Возвращает строковое представление табулированной функции.
+     *
+     * @return строковое представление функции
+     */
+    @Override
+    public String toString() {
+        ByteBuffer[] chunks = this.chunks;
+        if (closed || chunks == null) {
+            return "{closed}";
+        }
+        StringBuilder sb = new StringBuilder("{");
+
+        for (int i = 0; i < size; i++) {
+            sb.append('(').append(x(chunks, i)).append("; ").append(y(chunks, i)).append(')');
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Сравнивает текущую функцию с другим объектом.
+     * Функции считаются равными, если совпадает количество точек
+     * и все соответствующие точки равны.
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если функции равны, иначе {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TabulatedFunction other)) {
+            return false;
+        }
+
+        ByteBuffer[] chunks = openChunks();
+        if (size != other.getPointsCount()) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(x(chunks, i) - other.getPointX(i)) >= 1e-10
+                    || Math.abs(y(chunks, i) - other.getPointY(i)) >= 1e-10) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Возвращает хэш-код табулированной функции.
+     * Совпадает с хэш-кодом {@link ArrayTabulatedFunction} с теми же точками.
+     *
+     * @return хэш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        ByteBuffer[] chunks = openChunks();
+        int hash = size;
+
+        for (int i = 0; i < size; i++) {
+            hash ^= Long.hashCode(Double.doubleToLongBits(x(chunks, i))) ^ Long.hashCode(Double.doubleToLongBits(y(chunks, i)));
+        }
+
+        return hash;
+    }
+
+    /**
+     * Возвращает копию функции. Так как функция неизменяема,
+     * копия разделяет с исходной функцией отображённые страницы файла.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        return new MappedTabulatedFunction(openChunks(), this);
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Читает координату X точки с индексом index из отображённого фрагмента.
+    private static double x(ByteBuffer[] chunks, int index) {
+        return chunks[index >>> CHUNK_SHIFT].getDouble((index & CHUNK_MASK) * POINT_BYTES);
+    }
+
+    // Читает координату Y точки с индексом index из отображённого фрагмента.
+    private static double y(ByteBuffer[] chunks, int index) {
+        return chunks[index >>> CHUNK_SHIFT].getDouble((index & CHUNK_MASK) * POINT_BYTES + Double.BYTES);
+    }
+
+    // Метод для проверки того, что функция не закрыта. Возвращает фрагменты,
+    // которые вызывающий метод использует до конца вызова.
+    private ByteBuffer[] openChunks() {
+        ByteBuffer[] chunks = this.chunks;
+        if (closed || chunks == null) {
+            throw new IllegalStateException("Функция закрыта, отображение файла освобождено");
+        }
+        return chunks;
+    }
+
+    // Метод для проверки корректности индекса.
+    // (0 <= index < size)
+    private void checkIndexBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Индекс точки должен быть не меньше нуля и меньше количества точек в функции. (На данный момент количество точек в функции - %d)", size)
+            );
+        }
+    }
+}
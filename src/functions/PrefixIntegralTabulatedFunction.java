@@ -0,0 +1,305 @@
+package functions;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Обёртка над табулированной функцией, поддерживающая индекс накопленных интегралов:
+ * дерево Фенвика над площадями трапеций на отрезках между точками.
+ * <p>
+ * Интеграл по любому отрезку [a; b] вычисляется за O(log n) вызовов методов доступа к точкам
+ * вместо O(log n + k) у {@link TabulatedFunction#integrate(double, double)}. Изменение координат
+ * одной точки через обёртку ({@link #setPointY(int, double)}, {@link #setPointX(int, double)},
+ * {@link #setPoint(int, FunctionPoint)}) обновляет площади двух соседних отрезков за O(log n).
+ * Добавление и удаление точек перестраивает индекс за O(n).
+ * <p>
+ * Чтение и запись точек передаются обёрнутой функции. Индекс остаётся верным, только пока
+ * функция изменяется через обёртку. Доступ к точке по индексу у обёрнутой функции должен быть
+ * быстрым, как у {@link ArrayTabulatedFunction} или {@link DoubleArrayTabulatedFunction}.
+ * Обёртка не потокобезопасна.
+ */
+public class PrefixIntegralTabulatedFunction implements TabulatedFunction {
+
+    private final TabulatedFunction function;
+    // Площади трапеций: areas[i] - площадь на отрезке [i - 1; i], areas[0] не используется.
+    private double[] areas;
+    // Дерево Фенвика над areas: tree[i] - сумма areas[i - (i & -i) + 1 .. i].
+    private double[] tree;
+    // Количество точечных обновлений дерева с последнего перестроения. Чтобы погрешности округления
+    // от вычитаний не накапливались, дерево перестраивается после числа обновлений, равного количеству точек.
+    private int updatesCount;
+
+    /**
+     * Создаёт обёртку над функцией и строит индекс накопленных интегралов за O(n).
+     *
+     * @param function обёртываемая табулированная функция
+     */
+    public PrefixIntegralTabulatedFunction(TabulatedFunction function) {
+        this.function = function;
+        rebuildIndex();
+    }
+
+    /**
+     * Возвращает обёрнутую функцию. Изменения, сделанные прямо в ней,
+     * не отражаются в индексе до вызова {@link #rebuildIndex()}.
+     *
+     * @return обёрнутая функция
+     */
+    public TabulatedFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Перестраивает индекс накопленных интегралов по текущим точкам обёрнутой функции за O(n).
+     */
+    public void rebuildIndex() {
+        int pointsCount = function.getPointsCount();
+        areas = new double[pointsCount];
+        tree = new double[pointsCount];
+        function.forEachPoint(new FunctionPointConsumer() {
+            private double previousX;
+            private double previousY;
+
+            @Override
+            public void accept(int index, double x, double y) {
+                if (index > 0) {
+                    areas[index] = (previousY + y) * (x - previousX) / 2.0;
+                }
+                previousX = x;
+                previousY = y;
+            }
+        });
+        // Построение дерева за O(n): каждый узел добавляет свою сумму к родителю.
+        System.arraycopy(areas, 0, tree, 0, pointsCount);
+        for (int i = 1; i < pointsCount; i++) {
+            int parent = i + (i & -i);
+            if (parent < pointsCount) {
+                tree[parent] += tree[i];
+            }
+        }
+        updatesCount = 0;
+    }
+
+    /**
+     * Вычисляет точное значение интеграла функции по отрезку [{@code leftX}; {@code rightX}]
+     * как разность накопленных интегралов, каждый из которых находится за O(log n).
+     *
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @return значение интеграла
+     * @throws IllegalArgumentException если {@code leftX > rightX} или отрезок выходит за область определения функции
+     */
+    @Override
+    public double integrate(double leftX, double rightX) {
+        TabulatedFunctions.checkIntegrationRange(leftX, rightX, getLeftDomainBorder(), getRightDomainBorder());
+        return cumulativeIntegral(rightX) - cumulativeIntegral(leftX);
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        return function.getLeftDomainBorder();
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        return function.getRightDomainBorder();
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        return function.getFunctionValue(x);
+    }
+
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        function.getFunctionValues(x, result);
+    }
+
+    @Override
+    public int getPointsCount() {
+        return function.getPointsCount();
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        return function.getPoint(index);
+    }
+
+    @Override
+    public double getPointX(int index) {
+        return function.getPointX(index);
+    }
+
+    @Override
+    public double getPointY(int index) {
+        return function.getPointY(index);
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        function.setPoint(index, point);
+        updateSegments(index);
+    }
+
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        function.setPointX(index, x);
+        updateSegments(index);
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        function.setPointY(index, y);
+        updateSegments(index);
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        function.addPoint(point);
+        rebuildIndex();
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        function.deletePoint(index);
+        rebuildIndex();
+    }
+
+    @Override
+    public void addPoints(FunctionPoint[] points) throws InappropriateFunctionPointException {
+        function.addPoints(points);
+        rebuildIndex();
+    }
+
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        int count = function.removePointsInRange(fromX, toX);
+        if (count > 0) {
+            rebuildIndex();
+        }
+        return count;
+    }
+
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        function.forEachPoint(action);
+    }
+
+    @Override
+    public Spliterator<FunctionPoint> spliterator() {
+        return function.spliterator();
+    }
+
+    @Override
+    public DoubleStream xStream() {
+        return function.xStream();
+    }
+
+    @Override
+    public DoubleStream yStream() {
+        return function.yStream();
+    }
+
+    @Override
+    public TabulatedFunctionCursor cursor() {
+        return function.cursor();
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        return function.iterator();
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    @Override
+    public String toString() {
+        return function.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || function.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return function.hashCode();
+    }
+
+    /**
+     * Создаёт копию обёртки над копией обёрнутой функции.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        return new PrefixIntegralTabulatedFunction((TabulatedFunction) function.clone());
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Вычисляет интеграл от левой границы области определения до x (x лежит в области определения).
+    private double cumulativeIntegral(double x) {
+        int pointsCount = function.getPointsCount();
+        // Двоичный поиск первой точки i >= 1, для которой x <= x[i].
+        int low = 1;
+        int high = pointsCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= function.getPointX(mid)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        double x1 = function.getPointX(low - 1);
+        double y1 = function.getPointY(low - 1);
+        double x2 = function.getPointX(low);
+        double y2 = function.getPointY(low);
+        double y = y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+        return prefixSum(low - 1) + (y1 + y) * (x - x1) / 2.0;
+    }
+
+    // Возвращает сумму площадей отрезков с индексами от 1 до index.
+    private double prefixSum(int index) {
+        double sum = 0.0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // Пересчитывает площади двух отрезков, прилегающих к точке с индексом index.
+    private void updateSegments(int index) {
+        if (++updatesCount > areas.length) {
+            rebuildIndex();
+            return;
+        }
+        updateSegment(index);
+        updateSegment(index + 1);
+    }
+
+    // Пересчитывает площадь отрезка [index - 1; index] и обновляет дерево. Индексы вне [1; n - 1] пропускаются.
+    private void updateSegment(int index) {
+        if (index < 1 || index >= areas.length) {
+            return;
+        }
+        double area = (function.getPointY(index - 1) + function.getPointY(index))
+                * (function.getPointX(index) - function.getPointX(index - 1)) / 2.0;
+        double delta = area - areas[index];
+        areas[index] = area;
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package functions;
+
+/**
+ * Результат интегрирования методом Ромберга
+ * {@link Functions#integrateRomberg(Function, double, double, double, double)}.
+ * Кроме значения интеграла, оценки погрешности и количества вычислений функции
+ * содержит таблицу экстраполяции Ричардсона для диагностики сходимости.
+ */
+public final class RombergIntegrationResult extends IntegrationResult {
+    private final double[][] table;
+
+    RombergIntegrationResult(double value, double errorEstimate, int evaluationsCount, double[][] table) {
+        super(value, errorEstimate, evaluationsCount);
+        this.table = table;
+    }
+
+    /**
+     * Возвращает копию таблицы экстраполяции. Строка k содержит k + 1 значений:
+     * элемент [k][0] - значение по формуле трапеций с шагом (rightX - leftX) / 2^k,
+     * элемент [k][j] - результат j-го шага экстраполяции Ричардсона.
+     * Значение интеграла - последний элемент последней строки.
+     *
+     * @return таблица экстраполяции
+     */
+    public double[][] getTable() {
+        double[][] copy = new double[table.length][];
+        for (int k = 0; k < table.length; k++) {
+            copy[k] = table[k].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Возвращает количество делений шага пополам, выполненных до остановки.
+     *
+     * @return количество строк таблицы экстраполяции без первой
+     */
+    public int getLevelsCount() {
+        return table.length - 1;
+    }
+}
@@ -0,0 +1,65 @@
+package functions;
+
+/**
+ * Скалярные ядра пакетных вычислений для {@link BatchKernels}.
+ * Каждое ядро - один цикл по массивам примитивов; значения совпадают с поэлементными вычислениями.
+ * Векторная реализация ({@code VectorBatchKernels}) наследует этот класс и вызывает его методы
+ * для хвостов массивов, не кратных длине вектора.
+ */
+class ScalarBatchKernels {
+
+    ScalarBatchKernels() {}
+
+    // Название реализации для BatchKernels.getImplementationName().
+    String name() {
+        return "scalar";
+    }
+
+    // Записывает sin(x[i]) в result[i] для i из [from; to).
+    void sin(double[] x, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = Math.sin(x[i]);
+        }
+    }
+
+    // Записывает cos(x[i]) в result[i] для i из [from; to).
+    void cos(double[] x, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = Math.cos(x[i]);
+        }
+    }
+
+    // Записывает tan(x[i]) в result[i] для i из [from; to).
+    void tan(double[] x, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = Math.tan(x[i]);
+        }
+    }
+
+    // Записывает e^x[i] в result[i] для i из [from; to).
+    void exp(double[] x, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = Math.exp(x[i]);
+        }
+    }
+
+    // Записывает ln(x[i]) / logBase в result[i] для i из [from; to); для x[i] <= 0 - NaN.
+    void log(double[] x, double[] result, int from, int to, double logBase) {
+        for (int i = from; i < to; i++) {
+            double xi = x[i];
+            result[i] = xi <= 0 ? Double.NaN : Math.log(xi) / logBase;
+        }
+    }
+
+    // Прибавляет к initial площади трапеций с шагом step на отрезках между соседними значениями
+    // последовательности yLeft, y[0], ..., y[count - 1]. Площади прибавляются по одной, как при поточечном вычислении.
+    double trapezoidSum(double initial, double yLeft, double[] y, int count, double step) {
+        double sum = initial;
+        double previous = yLeft;
+        for (int i = 0; i < count; i++) {
+            sum += (previous + y[i]) * step / 2.0;
+            previous = y[i];
+        }
+        return sum;
+    }
+}
@@ -1,5 +1,9 @@
 package functions;
 
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
 /**
  * Интерфейс табулированной функции.
  * Описывает набор общих операций для функций, представленных в виде набора точек (x, y).
@@ -88,6 +92,177 @@ public interface TabulatedFunction extends Function, Cloneable, Iterable<Functio
      */
     void deletePoint(int index);
 
+    /**
+     * Добавляет в функцию сразу несколько точек.
+     * Точки вставляются в соответствии с их значениями X. Операция атомарна: если хотя бы одна
+     * точка недопустима, исключение выбрасывается до каких-либо изменений функции.
+     * Реализация по умолчанию проверяет все точки, а затем добавляет их по одной;
+     * реализации с собственным хранением выполняют слияние за один проход O(n + k log k).
+     *
+     * @param points добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    default void addPoints(FunctionPoint[] points) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(points);
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            // Двоичный поиск первой точки функции с координатой X не меньше pointX.
+            int low = 0;
+            int high = getPointsCount();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getPointX(mid) < pointX) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if ((low < getPointsCount() && Math.abs(getPointX(low) - pointX) < 1e-10)
+                    || (low > 0 && Math.abs(getPointX(low - 1) - pointX) < 1e-10)) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+        }
+        for (FunctionPoint point : sortedPoints) {
+            addPoint(point);
+        }
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}].
+     * Операция атомарна: если после удаления осталось бы меньше двух точек,
+     * исключение выбрасывается до каких-либо изменений функции.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    default int removePointsInRange(double fromX, double toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        int from = 0;
+        while (from < getPointsCount() && getPointX(from) < fromX) {
+            from++;
+        }
+        int to = from;
+        while (to < getPointsCount() && getPointX(to) <= toX) {
+            to++;
+        }
+        int count = to - from;
+        if (getPointsCount() - count < 2) {
+            throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+        }
+        for (int i = to - 1; i >= from; i--) {
+            deletePoint(i);
+        }
+        return count;
+    }
+
+    /**
+     * Передаёт все точки функции по порядку возрастания X получателю {@code action}.
+     * В отличие от итератора и {@link #getPoint(int)}, не создаёт объектов {@link FunctionPoint}.
+     * Изменять функцию во время обхода нельзя.
+     *
+     * @param action получатель точек
+     */
+    default void forEachPoint(FunctionPointConsumer action) {
+        int pointsCount = getPointsCount();
+        for (int i = 0; i < pointsCount; i++) {
+            action.accept(i, getPointX(i), getPointY(i));
+        }
+    }
+
+    /**
+     * Вычисляет точное значение определённого интеграла функции по отрезку [{@code leftX}; {@code rightX}].
+     * Так как между точками функция линейна, интеграл равен сумме площадей трапеций
+     * на отрезках между точками, попавшими в [{@code leftX}; {@code rightX}], и на неполных крайних отрезках.
+     * Реализация по умолчанию находит первую точку двоичным поиском и проходит следующие точки по индексу:
+     * O(log n + k), где k - количество точек внутри отрезка интегрирования.
+     *
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @return значение интеграла
+     * @throws IllegalArgumentException если {@code leftX > rightX} или отрезок выходит за область определения функции
+     */
+    default double integrate(double leftX, double rightX) {
+        TabulatedFunctions.checkIntegrationRange(leftX, rightX, getLeftDomainBorder(), getRightDomainBorder());
+        int pointsCount = getPointsCount();
+        // Двоичный поиск первой точки, лежащей правее leftX.
+        int i = 1;
+        int high = pointsCount - 1;
+        while (i < high) {
+            int mid = (i + high) >>> 1;
+            if (getPointX(mid) > leftX) {
+                high = mid;
+            } else {
+                i = mid + 1;
+            }
+        }
+        double integral = 0.0;
+        double x1 = leftX;
+        double y1 = getFunctionValue(leftX);
+        for (; i < pointsCount && getPointX(i) < rightX; i++) {
+            double x2 = getPointX(i);
+            double y2 = getPointY(i);
+            integral += (y1 + y2) * (x2 - x1) / 2.0;
+            x1 = x2;
+            y1 = y2;
+        }
+        integral += (y1 + getFunctionValue(rightX)) * (rightX - x1) / 2.0;
+        return integral;
+    }
+
+    /**
+     * Возвращает разделяемый итератор по точкам функции с известным размером.
+     * Реализация по умолчанию делит диапазон индексов пополам и читает точки методом {@link #getPoint(int)},
+     * поэтому подходит для параллельных потоков, если чтение точек по индексу не изменяет функцию.
+     *
+     * @return разделяемый итератор по точкам функции
+     */
+    @Override
+    default Spliterator<FunctionPoint> spliterator() {
+        return new IndexPointSpliterator(this, 0, getPointsCount());
+    }
+
+    /**
+     * Возвращает поток координат X точек функции в порядке возрастания.
+     * Поток не создаёт объектов {@link FunctionPoint} и может быть сделан параллельным
+     * методом {@link DoubleStream#parallel()}. Изменять функцию во время обработки потока нельзя.
+     *
+     * @return поток координат X
+     */
+    default DoubleStream xStream() {
+        return StreamSupport.doubleStream(new IndexCoordinateSpliterator(this, false, 0, getPointsCount()), false);
+    }
+
+    /**
+     * Возвращает поток координат Y точек функции в порядке возрастания X.
+     * Поток не создаёт объектов {@link FunctionPoint} и может быть сделан параллельным
+     * методом {@link DoubleStream#parallel()}. Изменять функцию во время обработки потока нельзя.
+     *
+     * @return поток координат Y
+     */
+    default DoubleStream yStream() {
+        return StreamSupport.doubleStream(new IndexCoordinateSpliterator(this, true, 0, getPointsCount()), false);
+    }
+
+    /**
+     * Возвращает новый курсор для последовательного вычисления значений функции.
+     * Курсор запоминает последний отрезок интерполяции, поэтому для монотонной
+     * последовательности аргументов вычисление занимает амортизированное время O(1).
+     * Каждый поток должен использовать собственный курсор.
+     *
+     * @return курсор функции
+     */
+    default TabulatedFunctionCursor cursor() {
+        return new IndexTabulatedFunctionCursor(this);
+    }
+
     /**
      * Создаёт и возвращает копию табулированной функции.
      *
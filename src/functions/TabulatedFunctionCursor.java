@@ -0,0 +1,20 @@
+package functions;
+
+/**
+ * Курсор для последовательного вычисления значений табулированной функции.
+ * <p>
+ * Курсор запоминает отрезок интерполяции, использованный при последнем вычислении,
+ * и начинает поиск следующего отрезка с него. Для монотонной последовательности аргументов
+ * (шаги интегрирования, построение графика, передискретизация) вычисление значения
+ * занимает амортизированное время O(1).
+ * <p>
+ * Курсор не потокобезопасен и предназначен для одного вызывающего. Разные курсоры одной функции,
+ * полученные вызовами {@link TabulatedFunction#cursor()}, можно использовать из разных потоков
+ * одновременно, пока функция не изменяется.
+ */
+public interface TabulatedFunctionCursor extends Function {
+    /**
+     * Сбрасывает запомненный отрезок: следующее вычисление начнёт поиск заново.
+     */
+    void reset();
+}
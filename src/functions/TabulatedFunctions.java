@@ -2,6 +2,13 @@ package functions;
 
 import java.io.*;
 import java.lang.reflect.Constructor;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Класс содержит вспомогательные статические методы для работы с табулированными функциями.
@@ -9,9 +16,15 @@ import java.lang.reflect.Constructor;
  * В классе предоставлены методы для:
  * <ul>
  *   <li>Создания табулированного аналога функции на заданном отрезке {@link #tabulate(Function, double, double, int)}</li>
+ *   <li>Ленивого табулирования функции {@link #tabulateLazily(Function, double, double, int)}</li>
+ *   <li>Параллельного табулирования функции {@link #tabulateParallel(Function, double, double, int)}</li>
+ *   <li>Создания табулированного аналога функции с заданной точностью на адаптивной сетке
+ *       {@link #tabulateAdaptive(Function, double, double, double)}</li>
+ *   <li>Упрощения табулированной функции с ограничением погрешности {@link #simplify(TabulatedFunction, double)}</li>
  *   <li>Сохранения и чтения табулированной функции в/из байтового потока
  *       {@link #outputTabulatedFunction(TabulatedFunction, OutputStream)},
  *       {@link #inputTabulatedFunction(InputStream)}</li>
+ *   <li>Отображения в память файла с табулированной функцией {@link #mapTabulatedFunction(Path)}</li>
  *   <li>Сохранения и чтения табулированной функции в/из текстового потока
  *       {@link #writeTabulatedFunction(TabulatedFunction, Writer)},
  *       {@link #readTabulatedFunction(Reader)}</li>
@@ -22,6 +35,16 @@ public class TabulatedFunctions {
 
     private static TabulatedFunctionFactory factory = new ArrayTabulatedFunction.ArrayTabulatedFunctionFactory();
 
+    // Количество точек начальной равномерной сетки адаптивного табулирования по умолчанию.
+    private static final int ADAPTIVE_INITIAL_POINTS_COUNT = 9;
+    // Наибольшее количество делений пополам отрезка начальной сетки при адаптивном табулировании.
+    private static final int ADAPTIVE_MAX_DEPTH = 24;
+    // Наибольшее количество вычислений функции в серединах отрезков при адаптивном табулировании.
+    private static final int ADAPTIVE_MAX_REFINEMENT_EVALUATIONS = 1 << 20;
+
+    // Количество точек сетки, значения в которых вычисляются одной задачей при параллельном табулировании.
+    private static final int PARALLEL_TABULATION_CHUNK_SIZE = 4096;
+
     private TabulatedFunctions() {};
 
     public static void setTabulatedFunctionFactory(TabulatedFunctionFactory newFactory) {
@@ -103,12 +126,7 @@ public class TabulatedFunctions {
             throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
         if (leftX < function.getLeftDomainBorder() || rightX > function.getRightDomainBorder())
             throw new IllegalArgumentException("Указанные границы для табулирования выходят за область определения функции");
-        FunctionPoint[] points = new FunctionPoint[pointsCount];
-        double step = (rightX - leftX) / (pointsCount - 1);
-        for (int i = 0; i < pointsCount - 1; i++) {
-            points[i] = new FunctionPoint(leftX + i * step, function.getFunctionValue(leftX + i * step));
-        }
-        points[pointsCount - 1] = new FunctionPoint(rightX, function.getFunctionValue(rightX));
+        FunctionPoint[] points = tabulatePoints(function, leftX, rightX, pointsCount);
         return factory.createTabulatedFunction(points);
     }
 
@@ -124,12 +142,7 @@ public class TabulatedFunctions {
         if (leftX < function.getLeftDomainBorder() || rightX > function.getRightDomainBorder())
             throw new IllegalArgumentException("Указанные границы для табулирования выходят за область определения функции");
 
-        FunctionPoint[] points = new FunctionPoint[pointsCount];
-        double step = (rightX - leftX) / (pointsCount - 1);
-        for (int i = 0; i < pointsCount - 1; i++) {
-            points[i] = new FunctionPoint(leftX + i * step, function.getFunctionValue(leftX + i * step));
-        }
-        points[pointsCount - 1] = new FunctionPoint(rightX, function.getFunctionValue(rightX));
+        FunctionPoint[] points = tabulatePoints(function, leftX, rightX, pointsCount);
 
         try {
             Constructor<?> constructor = functionClass.getConstructor(FunctionPoint[].class);
@@ -139,6 +152,236 @@ public class TabulatedFunctions {
         }
     }
 
+    /**
+     * Создаёт табулированный аналог функции, значения которого в точках вычисляются
+     * только при первом обращении к ним. Подходит для больших сеток, из которых
+     * используется лишь небольшая часть.
+     *
+     * @param function    функция, которую необходимо табулировать
+     * @param leftX       левая граница отрезка табулирования
+     * @param rightX      правая граница отрезка табулирования
+     * @param pointsCount количество точек табулирования (не меньше 2)
+     * @return ленивая табулированная функция
+     * @throws IllegalArgumentException если границы или количество точек некорректны
+     */
+    public static LazyTabulatedFunction tabulateLazily(Function function, double leftX, double rightX, int pointsCount) {
+        return new LazyTabulatedFunction(function, leftX, rightX, pointsCount);
+    }
+
+    /**
+     * Создаёт табулированный аналог функции, вычисляя её значения параллельно
+     * в общем пуле {@link ForkJoinPool#commonPool()}.
+     *
+     * @param function    функция, которую необходимо табулировать
+     * @param leftX       левая граница отрезка табулирования
+     * @param rightX      правая граница отрезка табулирования
+     * @param pointsCount количество точек табулирования (не меньше 2)
+     * @return объект {@code TabulatedFunction}, представляющий табулированную функцию
+     * @throws IllegalArgumentException если границы или количество точек некорректны
+     * @see #tabulateParallel(Function, double, double, int, Executor)
+     */
+    public static TabulatedFunction tabulateParallel(Function function, double leftX, double rightX, int pointsCount) {
+        return tabulateParallel(function, leftX, rightX, pointsCount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создаёт табулированный аналог функции, вычисляя её значения параллельно с помощью {@code executor}.
+     * <p>
+     * Сетка делится на части по {@value #PARALLEL_TABULATION_CHUNK_SIZE} точек, значения каждой части
+     * вычисляются одним вызовом {@link Function#getFunctionValues(double[], double[])} и записываются
+     * прямо в общий массив значений. Узлы сетки те же, что у {@link #tabulate(Function, double, double, int)},
+     * поэтому результат совпадает с последовательным табулированием (если не включены векторные ядра
+     * {@link BatchKernels}, значения которых могут отличаться в последнем бите). Функция должна допускать
+     * одновременное вычисление значений из нескольких потоков.
+     *
+     * @param function    функция, которую необходимо табулировать
+     * @param leftX       левая граница отрезка табулирования
+     * @param rightX      правая граница отрезка табулирования
+     * @param pointsCount количество точек табулирования (не меньше 2)
+     * @param executor    исполнитель, в котором вычисляются части сетки
+     * @return объект {@code TabulatedFunction}, представляющий табулированную функцию
+     * @throws IllegalArgumentException если границы или количество точек некорректны
+     */
+    public static TabulatedFunction tabulateParallel(
+            Function function, double leftX, double rightX, int pointsCount, Executor executor) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (pointsCount < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+        if (leftX < function.getLeftDomainBorder() || rightX > function.getRightDomainBorder())
+            throw new IllegalArgumentException("Указанные границы для табулирования выходят за область определения функции");
+
+        double[] values = new double[pointsCount];
+        double step = (rightX - leftX) / (pointsCount - 1);
+        int chunksCount = (pointsCount + PARALLEL_TABULATION_CHUNK_SIZE - 1) / PARALLEL_TABULATION_CHUNK_SIZE;
+        CompletableFuture<?>[] chunks = new CompletableFuture<?>[chunksCount];
+        for (int c = 0; c < chunksCount; c++) {
+            int from = c * PARALLEL_TABULATION_CHUNK_SIZE;
+            int to = Math.min(from + PARALLEL_TABULATION_CHUNK_SIZE, pointsCount);
+            chunks[c] = CompletableFuture.runAsync(() -> {
+                double[] xs = new double[to - from];
+                double[] ys = new double[to - from];
+                for (int i = from; i < to; i++) {
+                    xs[i - from] = i == pointsCount - 1 ? rightX : leftX + i * step;
+                }
+                function.getFunctionValues(xs, ys);
+                System.arraycopy(ys, 0, values, from, to - from);
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(chunks).join();
+        } catch (CompletionException e) {
+            // Исключение, выброшенное функцией, передаётся вызывающему без обёртки.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return factory.createTabulatedFunction(leftX, rightX, values);
+    }
+
+    /**
+     * Создаёт табулированный аналог функции с адаптивной сеткой: точки сгущаются там,
+     * где функция сильно искривлена, и разрежаются там, где она близка к линейной.
+     * Равносильно {@link #tabulateAdaptive(Function, double, double, double, int)}
+     * с {@value #ADAPTIVE_INITIAL_POINTS_COUNT} начальными точками.
+     *
+     * @param function  функция, которую необходимо табулировать
+     * @param leftX     левая граница отрезка табулирования
+     * @param rightX    правая граница отрезка табулирования
+     * @param tolerance допустимое отклонение линейной интерполяции от функции (больше нуля)
+     * @return табулированная функция и количество вычислений исходной функции
+     * @throws IllegalArgumentException если границы некорректны или {@code tolerance <= 0}
+     */
+    public static AdaptiveTabulationResult tabulateAdaptive(Function function, double leftX, double rightX, double tolerance) {
+        return tabulateAdaptive(function, leftX, rightX, tolerance, ADAPTIVE_INITIAL_POINTS_COUNT);
+    }
+
+    /**
+     * Создаёт табулированный аналог функции с адаптивной сеткой.
+     * <p>
+     * Отрезок сначала делится на {@code initialPointsCount - 1} равных частей. Каждая часть
+     * рекурсивно делится пополам, пока значение функции в её середине отличается от значения
+     * линейной интерполяции больше чем на {@code tolerance}. Глубина деления ограничена
+     * {@value #ADAPTIVE_MAX_DEPTH} уровнями.
+     * <p>
+     * Если значение функции на конце части или в её середине не является конечным числом
+     * ({@code NaN} или бесконечность), погрешность интерполяции не определена. Часть, у которой
+     * одно значение на концах конечно, а другое нет, делится до наибольшей глубины, уточняя границу
+     * области, где функция не определена; половина, у которой все три значения не конечны, дальше
+     * не делится. Поэтому на интервале, где функция не определена, добавляется лишь
+     * {@value #ADAPTIVE_MAX_DEPTH} точек у каждой его границы.
+     * <p>
+     * Значения в серединах частей вычисляются не больше {@value #ADAPTIVE_MAX_REFINEMENT_EVALUATIONS} раз.
+     * Когда этот запас исчерпан (например, вблизи полюса {@code Tan} или при очень малом {@code tolerance}),
+     * оставшиеся части больше не делятся, а {@link AdaptiveTabulationResult#isEvaluationLimitReached()}
+     * возвращает {@code true}: заданная точность в этом случае может не достигаться.
+     * Результат создаётся текущей фабрикой табулированных функций.
+     *
+     * @param function           функция, которую необходимо табулировать
+     * @param leftX              левая граница отрезка табулирования
+     * @param rightX             правая граница отрезка табулирования
+     * @param tolerance          допустимое отклонение линейной интерполяции от функции (больше нуля)
+     * @param initialPointsCount количество точек начальной равномерной сетки (не меньше 2)
+     * @return табулированная функция и количество вычислений исходной функции
+     * @throws IllegalArgumentException если границы некорректны, {@code tolerance <= 0}
+     *                                  или {@code initialPointsCount < 2}
+     */
+    public static AdaptiveTabulationResult tabulateAdaptive(
+            Function function, double leftX, double rightX, double tolerance, int initialPointsCount) {
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (initialPointsCount < 2)
+            throw new IllegalArgumentException("Количество точек initialPointsCount должно быть не меньше двух");
+        if (!(tolerance > 0))
+            throw new IllegalArgumentException("Допустимая погрешность tolerance должна быть больше нуля");
+        if (leftX < function.getLeftDomainBorder() || rightX > function.getRightDomainBorder())
+            throw new IllegalArgumentException("Указанные границы для табулирования выходят за область определения функции");
+
+        AdaptiveSampler sampler = new AdaptiveSampler(function, tolerance, initialPointsCount);
+        double step = (rightX - leftX) / (initialPointsCount - 1);
+        double x1 = leftX;
+        double y1 = sampler.evaluate(x1);
+        sampler.append(x1, y1);
+        for (int i = 1; i < initialPointsCount; i++) {
+            double x2 = i == initialPointsCount - 1 ? rightX : leftX + i * step;
+            double y2 = sampler.evaluate(x2);
+            sampler.refine(x1, y1, x2, y2, 0);
+            sampler.append(x2, y2);
+            x1 = x2;
+            y1 = y2;
+        }
+        return new AdaptiveTabulationResult(
+                factory.createTabulatedFunction(sampler.toPoints()),
+                sampler.evaluationsCount,
+                sampler.refinementEvaluationsCount == ADAPTIVE_MAX_REFINEMENT_EVALUATIONS
+        );
+    }
+
+    /**
+     * Упрощает табулированную функцию: удаляет точки так, чтобы каждая исходная точка
+     * отстояла по вертикали от ломаной результата не больше чем на {@code maxError}.
+     * Точки результата - подмножество исходных точек, крайние точки всегда сохраняются.
+     * <p>
+     * Используется жадный однопроходный алгоритм с окном допустимых наклонов: от последней
+     * сохранённой точки отрезок продлевается, пока его наклон удовлетворяет ограничениям
+     * всех пропущенных точек. Каждая точка обрабатывается не больше двух раз, поэтому
+     * время работы O(n) и дополнительная память - два массива координат.
+     * Результат создаётся текущей фабрикой табулированных функций.
+     *
+     * @param function функция для упрощения
+     * @param maxError наибольшее допустимое отклонение по вертикали (не меньше нуля)
+     * @return упрощённая табулированная функция
+     * @throws IllegalArgumentException если {@code maxError} отрицательна или не является числом
+     */
+    public static TabulatedFunction simplify(TabulatedFunction function, double maxError) {
+        if (!(maxError >= 0))
+            throw new IllegalArgumentException("Допустимая погрешность maxError не может быть отрицательной");
+
+        int size = function.getPointsCount();
+        double[] xValues = new double[size];
+        double[] yValues = new double[size];
+        function.forEachPoint((i, x, y) -> {
+            xValues[i] = x;
+            yValues[i] = y;
+        });
+
+        // Индексы сохраняемых точек записываются в начало того же массива keep.
+        int[] keep = new int[size];
+        int kept = 0;
+        keep[kept++] = 0;
+        int anchor = 0;
+        double minSlope = Double.NEGATIVE_INFINITY;
+        double maxSlope = Double.POSITIVE_INFINITY;
+        int j = 1;
+        while (j < size) {
+            double dx = xValues[j] - xValues[anchor];
+            double slope = (yValues[j] - yValues[anchor]) / dx;
+            if (j == anchor + 1 || (slope >= minSlope && slope <= maxSlope)) {
+                // Отрезок [anchor; j] проходит рядом со всеми пропущенными точками, точка j тоже может быть пропущена.
+                minSlope = Math.max(minSlope, (yValues[j] - maxError - yValues[anchor]) / dx);
+                maxSlope = Math.min(maxSlope, (yValues[j] + maxError - yValues[anchor]) / dx);
+                j++;
+            } else {
+                // Предыдущая точка становится новой опорной, точка j проверяется заново.
+                anchor = j - 1;
+                keep[kept++] = anchor;
+                minSlope = Double.NEGATIVE_INFINITY;
+                maxSlope = Double.POSITIVE_INFINITY;
+            }
+        }
+        keep[kept++] = size - 1;
+
+        FunctionPoint[] points = new FunctionPoint[kept];
+        for (int i = 0; i < kept; i++) {
+            points[i] = new FunctionPoint(xValues[keep[i]], yValues[keep[i]]);
+        }
+        return factory.createTabulatedFunction(points);
+    }
+
     /**
      * Сохраняет табулированную функцию в байтовый поток.
      *
@@ -151,10 +394,18 @@ public class TabulatedFunctions {
         DataOutputStream dataOutputStream = new DataOutputStream(out);
 
         dataOutputStream.writeInt(function.getPointsCount());
-        for (int i = 0; i < function.getPointsCount(); i++) {
-            FunctionPoint point = function.getPoint(i);
-            dataOutputStream.writeDouble(point.getX());
-            dataOutputStream.writeDouble(point.getY());
+        // Получатель точек не может выбросить IOException, поэтому ошибка передаётся в обёртке.
+        try {
+            function.forEachPoint((i, x, y) -> {
+                try {
+                    dataOutputStream.writeDouble(x);
+                    dataOutputStream.writeDouble(y);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
 
         dataOutputStream.flush();
@@ -183,6 +434,19 @@ public class TabulatedFunctions {
         return factory.createTabulatedFunction(points);
     }
 
+    /**
+     * Отображает в память файл, записанный методом {@link #outputTabulatedFunction(TabulatedFunction, OutputStream)},
+     * и возвращает функцию только для чтения, вычисляемую прямо по отображённым страницам.
+     * В отличие от {@link #inputTabulatedFunction(InputStream)}, не читает и не копирует точки.
+     *
+     * @param file путь к файлу
+     * @return отображённая в память функция
+     * @throws IOException при ошибках ввода-вывода
+     */
+    public static MappedTabulatedFunction mapTabulatedFunction(Path file) throws IOException {
+        return new MappedTabulatedFunction(file);
+    }
+
     public static TabulatedFunction inputTabulatedFunction(Class<?> functionClass, InputStream in) throws IOException {
         if (!TabulatedFunction.class.isAssignableFrom(functionClass)) {
             throw new IllegalArgumentException("Класс должен реализовывать интерфейс TabulatedFunction");
@@ -215,11 +479,18 @@ public class TabulatedFunctions {
      */
     public static void writeTabulatedFunction(TabulatedFunction function, Writer out) throws IOException {
         BufferedWriter bufferedWriter = new BufferedWriter(out);
-        int pointsCount = function.getPointsCount();
-        bufferedWriter.write(pointsCount + "\n");
-        for (int i = 0; i < pointsCount; i++) {
-            FunctionPoint point = function.getPoint(i);
-            bufferedWriter.write(point.getX() + " " + point.getY() + "\n");
+        bufferedWriter.write(function.getPointsCount() + "\n");
+        // Получатель точек не может выбросить IOException, поэтому ошибка передаётся в обёртке.
+        try {
+            function.forEachPoint((i, x, y) -> {
+                try {
+                    bufferedWriter.write(x + " " + y + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
         bufferedWriter.flush();
     }
@@ -270,4 +541,141 @@ public class TabulatedFunctions {
             throw new IllegalArgumentException("Ошибка при создании объекта через рефлексию", e);
         }
     }
+
+    // Вычисляет точки равномерной сетки одним вызовом getFunctionValues.
+    private static FunctionPoint[] tabulatePoints(Function function, double leftX, double rightX, int pointsCount) {
+        double[] xs = new double[pointsCount];
+        double step = (rightX - leftX) / (pointsCount - 1);
+        for (int i = 0; i < pointsCount - 1; i++) {
+            xs[i] = leftX + i * step;
+        }
+        xs[pointsCount - 1] = rightX;
+        double[] ys = new double[pointsCount];
+        function.getFunctionValues(xs, ys);
+
+        FunctionPoint[] points = new FunctionPoint[pointsCount];
+        for (int i = 0; i < pointsCount; i++) {
+            points[i] = new FunctionPoint(xs[i], ys[i]);
+        }
+        return points;
+    }
+
+    // Накапливает точки адаптивной сетки в порядке возрастания X и считает вычисления функции.
+    private static final class AdaptiveSampler {
+        private final Function function;
+        private final double tolerance;
+        private double[] xValues;
+        private double[] yValues;
+        private int size;
+        private int evaluationsCount;
+        // Количество вычислений в серединах отрезков, ограниченное ADAPTIVE_MAX_REFINEMENT_EVALUATIONS.
+        private int refinementEvaluationsCount;
+
+        AdaptiveSampler(Function function, double tolerance, int capacity) {
+            this.function = function;
+            this.tolerance = tolerance;
+            xValues = new double[capacity * 2];
+            yValues = new double[capacity * 2];
+        }
+
+        double evaluate(double x) {
+            evaluationsCount++;
+            return function.getFunctionValue(x);
+        }
+
+        // Добавляет в сетку точки внутри отрезка (x1; x2), делящие его до достижения заданной точности.
+        // Концы отрезка в сетку не добавляются. Отрезок не делится, если его половины были бы
+        // короче допустимого расстояния между абсциссами точек или запас вычислений исчерпан.
+        void refine(double x1, double y1, double x2, double y2, int depth) {
+            double middleX = (x1 + x2) / 2;
+            if (depth == ADAPTIVE_MAX_DEPTH || middleX - x1 <= 1e-10 || x2 - middleX <= 1e-10
+                    || refinementEvaluationsCount == ADAPTIVE_MAX_REFINEMENT_EVALUATIONS) {
+                return;
+            }
+            refinementEvaluationsCount++;
+            double middleY = evaluate(middleX);
+            boolean finite1 = Double.isFinite(y1);
+            boolean finite2 = Double.isFinite(y2);
+            boolean finiteMiddle = Double.isFinite(middleY);
+            if (finite1 && finite2 && finiteMiddle) {
+                if (Math.abs(middleY - (y1 + y2) / 2) <= tolerance) {
+                    return;
+                }
+            } else if (!finite1 && !finite2 && !finiteMiddle) {
+                // Функция не определена на всём отрезке: делить его незачем.
+                return;
+            }
+            // Иначе отрезок содержит границу области, где функция не определена, и делится дальше;
+            // половины без такой границы делятся по обычному правилу или не делятся вовсе.
+            refine(x1, y1, middleX, middleY, depth + 1);
+            append(middleX, middleY);
+            refine(middleX, middleY, x2, y2, depth + 1);
+        }
+
+        void append(double x, double y) {
+            if (size == xValues.length) {
+                double[] tempX = new double[size * 2];
+                double[] tempY = new double[size * 2];
+                System.arraycopy(xValues, 0, tempX, 0, size);
+                System.arraycopy(yValues, 0, tempY, 0, size);
+                xValues = tempX;
+                yValues = tempY;
+            }
+            xValues[size] = x;
+            yValues[size] = y;
+            size++;
+        }
+
+        FunctionPoint[] toPoints() {
+            FunctionPoint[] points = new FunctionPoint[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new FunctionPoint(xValues[i], yValues[i]);
+            }
+            return points;
+        }
+    }
+
+    // Возвращает копию массива точек, упорядоченную по X, и проверяет, что абсциссы точек попарно не совпадают.
+    static FunctionPoint[] sortPointsForInsertion(FunctionPoint[] points) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = points.clone();
+        Arrays.sort(sortedPoints, Comparator.comparingDouble(FunctionPoint::getX));
+        for (int i = 1; i < sortedPoints.length; i++) {
+            if (Math.abs(sortedPoints[i].getX() - sortedPoints[i - 1].getX()) < 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы добавляемых точек не могут совпадать. (Точка с координатой X = %.2f повторяется)", sortedPoints[i].getX())
+                );
+            }
+        }
+        return sortedPoints;
+    }
+
+    // Проверяет, что отрезок интегрирования [leftX; rightX] задан корректно и лежит в области определения [domainLeft; domainRight].
+    static void checkIntegrationRange(double leftX, double rightX, double domainLeft, double domainRight) {
+        if (!(leftX <= rightX)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Левая граница интегрирования не может быть больше правой. (leftX = %.5f, rightX = %.5f)",
+                            leftX, rightX
+                    )
+            );
+        }
+        if (leftX < domainLeft || rightX > domainRight) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Интервал интегрирования [%.5f; %.5f] выходит за область определения функции [%.5f; %.5f]",
+                            leftX, rightX, domainLeft, domainRight
+                    )
+            );
+        }
+    }
+
+    // Проверяет, что значения массива не убывают (NaN нарушает порядок).
+    static boolean isNonDecreasing(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (!(values[i - 1] <= values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
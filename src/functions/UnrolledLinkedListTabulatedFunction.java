@@ -0,0 +1,1115 @@
+package functions;
+
+import java.io.*;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Класс для работы с табулированными функциями одной переменной,
+ * использующий развёрнутый двусвязный циклический список: каждый узел (блок) хранит
+ * до {@value #BLOCK_CAPACITY} точек подряд в двух массивах примитивов {@code double}.
+ * <p>
+ * По сравнению с {@link LinkedListTabulatedFunction} точка занимает в несколько раз меньше памяти
+ * (нет отдельных объектов узла и {@link FunctionPoint}), а последовательный обход и интерполяция
+ * читают соседние ячейки массива вместо перехода по ссылке на каждом шаге.
+ * Вставка и удаление точки сдвигают не более одного блока; переполненный блок делится пополам,
+ * почти пустой блок сливается с соседним.
+ */
+public class UnrolledLinkedListTabulatedFunction implements TabulatedFunction, Externalizable {
+
+    public static class UnrolledLinkedListTabulatedFunctionFactory implements TabulatedFunctionFactory {
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, int pointsCount) {
+            return new UnrolledLinkedListTabulatedFunction(leftX, rightX, pointsCount);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(double leftX, double rightX, double[] values) {
+            return new UnrolledLinkedListTabulatedFunction(leftX, rightX, values);
+        }
+
+        @Override
+        public TabulatedFunction createTabulatedFunction(FunctionPoint[] points) {
+            return new UnrolledLinkedListTabulatedFunction(points);
+        }
+    }
+
+    /**
+     * Блок развёрнутого списка.
+     * Содержит {@code count} точек, упорядоченных по X, и ссылки на соседние блоки.
+     */
+    private static class Block {
+        private final double[] xValues;
+        private final double[] yValues;
+        private int count;
+        private Block prev = this;
+        private Block next = this;
+
+        private Block(int capacity) {
+            xValues = new double[capacity];
+            yValues = new double[capacity];
+        }
+
+        private double lastX() {
+            return xValues[count - 1];
+        }
+    }
+
+    /**
+     * Максимальное количество точек в одном блоке.
+     */
+    public static final int BLOCK_CAPACITY = 64;
+    // Блок, в котором точек меньше этого количества, сливается с соседним, если их точки помещаются в один блок.
+    private static final int MERGE_THRESHOLD = BLOCK_CAPACITY / 4;
+    // Количество шагов курсора по соседним точкам, после которого блок ищется заново.
+    private static final int CURSOR_WALK_LIMIT = 8;
+
+    private final Block head;
+    private int size;
+    private Block lastAccessedBlock;
+    private int lastAccessedBlockStart;
+    // Счётчик структурных изменений списка: курсоры и разделяемые итераторы по нему узнают, что их блок мог измениться.
+    private int modCount;
+
+    // Конструктор без параметров для сериализации.
+    public UnrolledLinkedListTabulatedFunction() {
+        head = new Block(0);
+        size = 0;
+        lastAccessedBlock = null;
+        lastAccessedBlockStart = -1;
+    }
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и нулевыми значениями.
+     *
+     * @param leftX левая граница области определения (меньше правой)
+     * @param rightX правая граница области определения
+     * @param pointsCount количество точек табулирования (не менее двух)
+     * @throws IllegalArgumentException если левая граница области определения больше или равна правой, или если количество точек менее двух
+     */
+    public UnrolledLinkedListTabulatedFunction(double leftX, double rightX, int pointsCount) {
+        this();
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (pointsCount < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+
+        double step = (rightX - leftX) / (pointsCount - 1);
+        for (int i = 0; i < pointsCount - 1; i++) {
+            appendPoint(leftX + i * step, 0);
+        }
+        appendPoint(rightX, 0);
+    }
+
+    /**
+     * Создаёт табулированную функцию с равномерной сеткой и заданными значениями.
+     *
+     * @param leftX левая граница области определения (меньше правой)
+     * @param rightX правая граница области определения
+     * @param values значения функции в точках табулирования (не менее двух значений в массиве)
+     * @throws IllegalArgumentException если левая граница области определения больше или равна правой, или если в массиве менее двух значений
+     */
+    public UnrolledLinkedListTabulatedFunction(double leftX, double rightX, double[] values) {
+        this();
+        if (leftX >= rightX)
+            throw new IllegalArgumentException("Левая граница области определения leftX должна быть строго меньше правой границы rightX");
+        if (values.length < 2)
+            throw new IllegalArgumentException("Количество значений функции в массиве values должно быть не меньше двух");
+
+        int pointsCount = values.length;
+        double step = (rightX - leftX) / (pointsCount - 1);
+        for (int i = 0; i < pointsCount - 1; i++) {
+            appendPoint(leftX + i * step, values[i]);
+        }
+        appendPoint(rightX, values[pointsCount - 1]);
+    }
+
+    /**
+     * Создаёт табулированную функцию по массиву точек {@code points}.
+     *
+     * @param points массив точек функции (длина не менее двух, X строго возрастают)
+     * @throws IllegalArgumentException если массив содержит меньше двух точек или точки не упорядочены по координате X
+     */
+    public UnrolledLinkedListTabulatedFunction(FunctionPoint[] points) {
+        this();
+        if (points.length < 2)
+            throw new IllegalArgumentException("Количество точек pointsCount должно быть не меньше двух");
+        for (int i = 0; i < points.length - 1; i++) {
+            if (points[i].getX() > points[i+1].getX() - 1e-10) {
+                throw new IllegalArgumentException("Точки в массиве должны быть упорядочены по координате X");
+            }
+        }
+
+        for (FunctionPoint point : points) {
+            appendPoint(point.getX(), point.getY());
+        }
+    }
+
+    @Override
+    public double getLeftDomainBorder() {
+        return head.next.xValues[0];
+    }
+
+    @Override
+    public double getRightDomainBorder() {
+        return head.prev.lastX();
+    }
+
+    @Override
+    public double getFunctionValue(double x) {
+        if (x >= getLeftDomainBorder() && x <= getRightDomainBorder()) {
+            Block block = findBlock(x, 1e-10, lastAccessedBlock);
+            int offset = findSegmentEndOffset(block, x);
+            if (block == head.next && offset == 0) {
+                // Отрезок интерполяции заканчивается не раньше второй точки функции.
+                if (block.count > 1) {
+                    offset = 1;
+                } else {
+                    block = block.next;
+                }
+            }
+            return interpolate(block, offset, x);
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Вычисляет значения функции для массива аргументов.
+     * Если аргументы упорядочены по возрастанию, точки функции перебираются
+     * одним проходом по блокам, иначе значения вычисляются по одному.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        if (!TabulatedFunctions.isNonDecreasing(x)) {
+            for (int k = 0; k < x.length; k++) {
+                result[k] = getFunctionValue(x[k]);
+            }
+            return;
+        }
+        double leftX = getLeftDomainBorder();
+        double rightX = getRightDomainBorder();
+        // Проход начинается со второй точки функции: отрезок интерполяции заканчивается не раньше неё.
+        Block block = head.next;
+        int offset = 1;
+        if (block.count == 1) {
+            block = block.next;
+            offset = 0;
+        }
+        for (int k = 0; k < x.length; k++) {
+            double xk = x[k];
+            if (xk < leftX || xk > rightX) {
+                result[k] = Double.NaN;
+                continue;
+            }
+            while (xk > block.xValues[offset] + 1e-10) {
+                offset++;
+                if (offset == block.count) {
+                    block = block.next;
+                    offset = 0;
+                }
+            }
+            result[k] = interpolate(block, offset, xk);
+        }
+    }
+
+    @Override
+    public int getPointsCount() {
+        return size;
+    }
+
+    @Override
+    public FunctionPoint getPoint(int index) {
+        checkIndexBounds(index);
+        Block block = getBlockByIndex(index);
+        int offset = index - lastAccessedBlockStart;
+        return new FunctionPoint(block.xValues[offset], block.yValues[offset]);
+    }
+
+    @Override
+    public double getPointX(int index) {
+        checkIndexBounds(index);
+        Block block = getBlockByIndex(index);
+        return block.xValues[index - lastAccessedBlockStart];
+    }
+
+    @Override
+    public double getPointY(int index) {
+        checkIndexBounds(index);
+        Block block = getBlockByIndex(index);
+        return block.yValues[index - lastAccessedBlockStart];
+    }
+
+    @Override
+    public void setPoint(int index, FunctionPoint point) throws InappropriateFunctionPointException {
+        checkIndexBounds(index);
+        checkPointOrder(index, point.getX());
+        Block block = getBlockByIndex(index);
+        int offset = index - lastAccessedBlockStart;
+        block.xValues[offset] = point.getX();
+        block.yValues[offset] = point.getY();
+    }
+
+    @Override
+    public void setPointX(int index, double x) throws InappropriateFunctionPointException {
+        checkIndexBounds(index);
+        checkPointOrder(index, x);
+        Block block = getBlockByIndex(index);
+        block.xValues[index - lastAccessedBlockStart] = x;
+    }
+
+    @Override
+    public void setPointY(int index, double y) {
+        checkIndexBounds(index);
+        Block block = getBlockByIndex(index);
+        block.yValues[index - lastAccessedBlockStart] = y;
+    }
+
+    @Override
+    public void deletePoint(int index) {
+        checkIndexBounds(index);
+        if (size < 3) {
+            throw new IllegalStateException("Нельзя удалить точку из функции, содержащей меньше трёх точек.");
+        }
+        Block block = getBlockByIndex(index);
+        int offset = index - lastAccessedBlockStart;
+        System.arraycopy(block.xValues, offset + 1, block.xValues, offset, block.count - offset - 1);
+        System.arraycopy(block.yValues, offset + 1, block.yValues, offset, block.count - offset - 1);
+        block.count--;
+        size--;
+        modCount++;
+
+        if (block.count == 0) {
+            removeBlock(block);
+        } else if (block.count < MERGE_THRESHOLD) {
+            if (block.next != head && block.count + block.next.count <= BLOCK_CAPACITY) {
+                mergeWithNext(block);
+            } else if (block.prev != head && block.prev.count + block.count <= BLOCK_CAPACITY) {
+                mergeWithNext(block.prev);
+            }
+        }
+        resetCache();
+    }
+
+    @Override
+    public void addPoint(FunctionPoint point) throws InappropriateFunctionPointException {
+        double pointX = point.getX();
+        // Первый блок, последняя точка которого не левее новой, или последний блок.
+        Block block = findBlock(pointX, 0, lastAccessedBlock);
+        int offset = lowerBound(block, pointX);
+
+        // Точки упорядочены по X, поэтому совпадать с новой точкой могут только её будущие соседи.
+        boolean hasNext = offset < block.count;
+        boolean hasPrev = offset > 0 || block.prev != head;
+        double nextX = hasNext ? block.xValues[offset] : 0;
+        double prevX = offset > 0 ? block.xValues[offset - 1] : hasPrev ? block.prev.lastX() : 0;
+        if ((hasNext && Math.abs(nextX - pointX) < 1e-10) || (hasPrev && Math.abs(prevX - pointX) < 1e-10)) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+            );
+        }
+
+        if (block.count == BLOCK_CAPACITY) {
+            if (offset == BLOCK_CAPACITY && block.next == head) {
+                // Точки, добавляемые в конец, заполняют новый блок, а не делят последний.
+                block = addBlockAfter(block);
+                offset = 0;
+            } else {
+                Block rightBlock = splitBlock(block);
+                if (offset > block.count) {
+                    offset -= block.count;
+                    block = rightBlock;
+                }
+            }
+        }
+        System.arraycopy(block.xValues, offset, block.xValues, offset + 1, block.count - offset);
+        System.arraycopy(block.yValues, offset, block.yValues, offset + 1, block.count - offset);
+        block.xValues[offset] = pointX;
+        block.yValues[offset] = point.getY();
+        block.count++;
+        size++;
+        modCount++;
+        resetCache();
+    }
+
+    /**
+     * Добавляет в функцию сразу несколько точек за один проход слияния O(n + k log k).
+     * Все точки проверяются до изменения функции; блоки после слияния заполняются полностью.
+     *
+     * @param newPoints добавляемые точки (в любом порядке)
+     * @throws InappropriateFunctionPointException если координаты X двух добавляемых точек совпадают
+     *                                             или в функции уже есть точка с таким X
+     */
+    @Override
+    public void addPoints(FunctionPoint[] newPoints) throws InappropriateFunctionPointException {
+        FunctionPoint[] sortedPoints = TabulatedFunctions.sortPointsForInsertion(newPoints);
+        double[] oldX = new double[size];
+        double[] oldY = new double[size];
+        forEachPoint((i, x, y) -> {
+            oldX[i] = x;
+            oldY[i] = y;
+        });
+
+        // Проверка всех точек до изменения функции: один проход навстречу точкам функции.
+        int i = 0;
+        for (FunctionPoint point : sortedPoints) {
+            double pointX = point.getX();
+            while (i < oldX.length && oldX[i] < pointX) {
+                i++;
+            }
+            if ((i < oldX.length && Math.abs(oldX[i] - pointX) < 1e-10)
+                    || (i > 0 && Math.abs(oldX[i - 1] - pointX) < 1e-10)) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Абсциссы точек не могут совпадать. (Точка с координатой X = %.2f уже есть в функции)", pointX)
+                );
+            }
+        }
+
+        clearBlocks();
+        int j = 0;
+        for (i = 0; i < oldX.length; i++) {
+            while (j < sortedPoints.length && sortedPoints[j].getX() < oldX[i]) {
+                appendPoint(sortedPoints[j].getX(), sortedPoints[j].getY());
+                j++;
+            }
+            appendPoint(oldX[i], oldY[i]);
+        }
+        for (; j < sortedPoints.length; j++) {
+            appendPoint(sortedPoints[j].getX(), sortedPoints[j].getY());
+        }
+    }
+
+    /**
+     * Удаляет все точки, координата X которых лежит в отрезке [{@code fromX}; {@code toX}],
+     * за один проход по блокам; оставшиеся точки заполняют блоки полностью.
+     *
+     * @param fromX левая граница отрезка
+     * @param toX правая граница отрезка
+     * @return количество удалённых точек
+     * @throws IllegalArgumentException если {@code fromX > toX}
+     * @throws IllegalStateException если после удаления останется меньше двух точек
+     */
+    @Override
+    public int removePointsInRange(double fromX, double toX) {
+        if (fromX > toX) {
+            throw new IllegalArgumentException("Левая граница диапазона fromX не может быть больше правой границы toX");
+        }
+        int[] count = {0};
+        forEachPoint((i, x, y) -> {
+            if (x >= fromX && x <= toX) {
+                count[0]++;
+            }
+        });
+        if (size - count[0] < 2) {
+            throw new IllegalStateException("Нельзя удалить точки: в функции должно остаться не меньше двух точек.");
+        }
+        if (count[0] == 0) {
+            return 0;
+        }
+
+        double[] keptX = new double[size - count[0]];
+        double[] keptY = new double[size - count[0]];
+        int[] kept = {0};
+        forEachPoint((i, x, y) -> {
+            if (x < fromX || x > toX) {
+                keptX[kept[0]] = x;
+                keptY[kept[0]] = y;
+                kept[0]++;
+            }
+        });
+        clearBlocks();
+        for (int i = 0; i < keptX.length; i++) {
+            appendPoint(keptX[i], keptY[i]);
+        }
+        return count[0];
+    }
+
+    /**
+     * Передаёт все точки функции получателю {@code action}, читая координаты прямо из массивов блоков.
+     *
+     * @param action получатель точек
+     */
+    @Override
+    public void forEachPoint(FunctionPointConsumer action) {
+        int index = 0;
+        for (Block block = head.next; block != head; block = block.next) {
+            for (int offset = 0; offset < block.count; offset++) {
+                action.accept(index++, block.xValues[offset], block.yValues[offset]);
+            }
+        }
+    }
+
+    /**
+     * Вычисляет точное значение интеграла функции по отрезку [{@code leftX}; {@code rightX}].
+     * Первая точка внутри отрезка находится поиском блока и двоичным поиском в нём,
+     * следующие точки читаются подряд из массивов блоков.
+     *
+     * @param leftX левая граница интегрирования
+     * @param rightX правая граница интегрирования
+     * @return значение интеграла
+     * @throws IllegalArgumentException если {@code leftX > rightX} или отрезок выходит за область определения функции
+     */
+    @Override
+    public double integrate(double leftX, double rightX) {
+        TabulatedFunctions.checkIntegrationRange(leftX, rightX, getLeftDomainBorder(), getRightDomainBorder());
+        Block block = findBlock(leftX, 0, lastAccessedBlock);
+        int offset = lowerBound(block, leftX);
+        if (offset < block.count && block.xValues[offset] <= leftX) {
+            offset++;
+        }
+        double integral = 0.0;
+        double x1 = leftX;
+        double y1 = getFunctionValue(leftX);
+        while (block != head) {
+            if (offset == block.count) {
+                block = block.next;
+                offset = 0;
+                continue;
+            }
+            double x2 = block.xValues[offset];
+            if (x2 >= rightX) {
+                break;
+            }
+            double y2 = block.yValues[offset];
+            integral += (y1 + y2) * (x2 - x1) / 2.0;
+            x1 = x2;
+            y1 = y2;
+            offset++;
+        }
+        integral += (y1 + getFunctionValue(rightX)) * (rightX - x1) / 2.0;
+        return integral;
+    }
+
+    /**
+     * Возвращает новый курсор, перемещающийся по точкам блоков.
+     * Курсор не использует общий кэш последнего блока, поэтому курсоры разных потоков
+     * не мешают друг другу, пока функция не изменяется.
+     *
+     * @return курсор функции
+     */
+    @Override
+    public TabulatedFunctionCursor cursor() {
+        return new TabulatedFunctionCursor() {
+            private Block block = null;
+            private int offset;
+            private int expectedModCount;
+
+            @Override
+            public double getFunctionValue(double x) {
+                if (!(x >= UnrolledLinkedListTabulatedFunction.this.getLeftDomainBorder()
+                        && x <= UnrolledLinkedListTabulatedFunction.this.getRightDomainBorder())) {
+                    return Double.NaN;
+                }
+                boolean found = false;
+                if (block != null && expectedModCount == modCount) {
+                    int steps = 0;
+                    while (x > block.xValues[offset] + 1e-10 && steps < CURSOR_WALK_LIMIT) {
+                        offset++;
+                        if (offset == block.count) {
+                            block = block.next;
+                            offset = 0;
+                        }
+                        steps++;
+                    }
+                    while (isAfterSecondPoint(block, offset) && x <= previousX(block, offset) + 1e-10
+                            && steps < CURSOR_WALK_LIMIT) {
+                        offset--;
+                        if (offset < 0) {
+                            block = block.prev;
+                            offset = block.count - 1;
+                        }
+                        steps++;
+                    }
+                    found = steps < CURSOR_WALK_LIMIT;
+                }
+                if (!found) {
+                    block = findBlock(x, 1e-10, block != null && expectedModCount == modCount ? block : null);
+                    offset = findSegmentEndOffset(block, x);
+                    expectedModCount = modCount;
+                }
+                if (block == head.next && offset == 0) {
+                    if (block.count > 1) {
+                        offset = 1;
+                    } else {
+                        block = block.next;
+                    }
+                }
+                return interpolate(block, offset, x);
+            }
+
+            @Override
+            public double getLeftDomainBorder() {
+                return UnrolledLinkedListTabulatedFunction.this.getLeftDomainBorder();
+            }
+
+            @Override
+            public double getRightDomainBorder() {
+                return UnrolledLinkedListTabulatedFunction.this.getRightDomainBorder();
+            }
+
+            @Override
+            public void reset() {
+                block = null;
+            }
+        };
+    }
+
+    /**
+     * Возвращает разделяемый итератор по точкам функции, перемещающийся по блокам.
+     * Не использует общий кэш последнего блока, поэтому части итератора
+     * можно обрабатывать в разных потоках одновременно.
+     *
+     * @return разделяемый итератор по точкам функции
+     */
+    @Override
+    public Spliterator<FunctionPoint> spliterator() {
+        return new BlockPointSpliterator(head.next, 0, 0, size);
+    }
+
+    /**
+     * Возвращает поток координат X точек функции, перемещающийся по блокам.
+     *
+     * @return поток координат X
+     */
+    @Override
+    public DoubleStream xStream() {
+        return StreamSupport.doubleStream(new BlockCoordinateSpliterator(head.next, 0, 0, size, false), false);
+    }
+
+    /**
+     * Возвращает поток координат Y точек функции, перемещающийся по блокам.
+     *
+     * @return поток координат Y
+     */
+    @Override
+    public DoubleStream yStream() {
+        return StreamSupport.doubleStream(new BlockCoordinateSpliterator(head.next, 0, 0, size, true), false);
+    }
+
+    /**
+     * Диапазон точек [index; fence) для разделяемых итераторов по блокам.
+     * Делится пополам проходом по блокам до средней точки. Только читает блоки,
+     * поэтому разные части диапазона можно обходить в разных потоках.
+     */
+    private abstract class BlockRange {
+        Block block;
+        int offset;
+        int index;
+        final int fence;
+        final int expectedModCount;
+        // Блок и позиция начала диапазона до последнего деления.
+        Block prefixBlock;
+        int prefixOffset;
+
+        BlockRange(Block block, int offset, int index, int fence) {
+            this.block = block;
+            this.offset = offset;
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = modCount;
+        }
+
+        // Возвращает индекс середины диапазона и перемещает текущую позицию на неё,
+        // или -1, если диапазон слишком мал для деления.
+        int splitMiddle() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return -1;
+            }
+            checkForComodification();
+            prefixBlock = block;
+            prefixOffset = offset;
+            int remaining = mid - index;
+            while (offset + remaining >= block.count) {
+                remaining -= block.count - offset;
+                block = block.next;
+                offset = 0;
+            }
+            offset += remaining;
+            return mid;
+        }
+
+        // Переходит к следующей точке.
+        void advance() {
+            offset++;
+            if (offset == block.count) {
+                block = block.next;
+                offset = 0;
+            }
+            index++;
+        }
+
+        void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("Функция была изменена во время обхода");
+            }
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+    }
+
+    // Разделяемый итератор по точкам, создающий объект для каждой точки.
+    private final class BlockPointSpliterator extends BlockRange implements Spliterator<FunctionPoint> {
+        BlockPointSpliterator(Block block, int offset, int index, int fence) {
+            super(block, offset, index, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FunctionPoint> action) {
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            action.accept(new FunctionPoint(block.xValues[offset], block.yValues[offset]));
+            advance();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super FunctionPoint> action) {
+            // Проверка на каждом шаге: блоки, изменённые во время обхода, могли быть отсоединены от списка.
+            while (index < fence) {
+                checkForComodification();
+                action.accept(new FunctionPoint(block.xValues[offset], block.yValues[offset]));
+                advance();
+            }
+        }
+
+        @Override
+        public Spliterator<FunctionPoint> trySplit() {
+            int from = index;
+            int mid = splitMiddle();
+            if (mid < 0) {
+                return null;
+            }
+            index = mid;
+            return new BlockPointSpliterator(prefixBlock, prefixOffset, from, mid);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    // Разделяемый итератор по координатам X или Y точек, не создающий объектов.
+    private final class BlockCoordinateSpliterator extends BlockRange implements Spliterator.OfDouble {
+        private final boolean yCoordinate;
+
+        BlockCoordinateSpliterator(Block block, int offset, int index, int fence, boolean yCoordinate) {
+            super(block, offset, index, fence);
+            this.yCoordinate = yCoordinate;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            checkForComodification();
+            action.accept(yCoordinate ? block.yValues[offset] : block.xValues[offset]);
+            advance();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            // Проверка на каждом шаге: блоки, изменённые во время обхода, могли быть отсоединены от списка.
+            while (index < fence) {
+                checkForComodification();
+                action.accept(yCoordinate ? block.yValues[offset] : block.xValues[offset]);
+                advance();
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            int from = index;
+            int mid = splitMiddle();
+            if (mid < 0) {
+                return null;
+            }
+            index = mid;
+            return new BlockCoordinateSpliterator(prefixBlock, prefixOffset, from, mid, yCoordinate);
+        }
+
+        @Override
+        public int characteristics() {
+            return yCoordinate ? ORDERED | SIZED | SUBSIZED : ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT;
+        }
+
+        // Координаты X упорядочены по естественному порядку чисел.
+        @Override
+        public Comparator<? super Double> getComparator() {
+            if (yCoordinate) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }
+    }
+
+    // ───────────────────────────────
+    // Итератор
+    // ───────────────────────────────
+
+    @Override
+    public Iterator<FunctionPoint> iterator() {
+        return new Iterator<FunctionPoint>() {
+            private Block block = head.next;
+            private int offset = 0;
+            private int returned = 0;
+            @Override
+            public boolean hasNext() {
+                return returned < size;
+            }
+            @Override
+            public FunctionPoint next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException("Нет следующего элемента");
+                }
+                FunctionPoint point = new FunctionPoint(block.xValues[offset], block.yValues[offset]);
+                offset++;
+                if (offset == block.count) {
+                    block = block.next;
+                    offset = 0;
+                }
+                returned++;
+                return point;
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Удаление не поддерживается");
+            }
+        };
+    }
+
+    // ───────────────────────────────
+    // Переопределение методов Object
+    // ───────────────────────────────
+
+    /**
+     * Возвращает строковое представление табулированной функции.
+     *
+     * @return строковое представление функции
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEachPoint((i, x, y) -> {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('(').append(x).append("; ").append(y).append(')');
+        });
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Сравнивает текущую функцию с другим объектом.
+     * Функции считаются равными, если совпадает количество точек
+     * и все соответствующие точки равны.
+     *
+     * @param o объект для сравнения
+     * @return {@code true}, если функции равны, иначе {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TabulatedFunction other)) {
+            return false;
+        }
+        if (size != other.getPointsCount()) {
+            return false;
+        }
+        boolean[] equal = {true};
+        forEachPoint((i, x, y) -> {
+            if (equal[0] && (Math.abs(x - other.getPointX(i)) >= 1e-10 || Math.abs(y - other.getPointY(i)) >= 1e-10)) {
+                equal[0] = false;
+            }
+        });
+        return equal[0];
+    }
+
+    /**
+     * Возвращает хэш-код табулированной функции.
+     * Совпадает с хэш-кодом {@link ArrayTabulatedFunction} с теми же точками.
+     *
+     * @return хэш-код объекта
+     */
+    @Override
+    public int hashCode() {
+        int[] hash = {size};
+        forEachPoint((i, x, y) -> hash[0] ^= Long.hashCode(Double.doubleToLongBits(x)) ^ Long.hashCode(Double.doubleToLongBits(y)));
+        return hash[0];
+    }
+
+    /**
+     * Создаёт и возвращает глубокую копию табулированной функции.
+     * Блоки копии заполняются полностью.
+     *
+     * @return клон объекта функции
+     */
+    @Override
+    public Object clone() {
+        UnrolledLinkedListTabulatedFunction clone = new UnrolledLinkedListTabulatedFunction();
+        forEachPoint((i, x, y) -> clone.appendPoint(x, y));
+        return clone;
+    }
+
+    // ────────────────────────────
+    // Методы для сериализации
+    // ────────────────────────────
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(size);
+        for (Block block = head.next; block != head; block = block.next) {
+            for (int offset = 0; offset < block.count; offset++) {
+                out.writeDouble(block.xValues[offset]);
+                out.writeDouble(block.yValues[offset]);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int pointsCount = in.readInt();
+        for (int i = 0; i < pointsCount; i++) {
+            double x = in.readDouble();
+            double y = in.readDouble();
+            appendPoint(x, y);
+        }
+    }
+
+    // ────────────────────────────
+    // Вспомогательные методы
+    // ────────────────────────────
+
+    // Возвращает блок, содержащий точку с индексом index, и запоминает его вместе с индексом его первой точки.
+    // Поиск начинается с ближайшего из первого блока, последнего блока и блока, к которому обращались последним.
+    private Block getBlockByIndex(int index) {
+        Block block;
+        int start;
+        if (lastAccessedBlock != null && Math.abs(index - lastAccessedBlockStart) < Math.min(index, size - index)) {
+            block = lastAccessedBlock;
+            start = lastAccessedBlockStart;
+        } else if (index < size - index) {
+            block = head.next;
+            start = 0;
+        } else {
+            block = head.prev;
+            start = size - block.count;
+        }
+        while (index >= start + block.count) {
+            start += block.count;
+            block = block.next;
+        }
+        while (index < start) {
+            block = block.prev;
+            start -= block.count;
+        }
+        lastAccessedBlock = block;
+        lastAccessedBlockStart = start;
+        return block;
+    }
+
+    // Возвращает первый блок, для последней точки которого x <= x[last] + tolerance, или последний блок.
+    // Поиск начинается с ближайшего по X из первого блока, последнего блока и блока hint (он только читается).
+    private Block findBlock(double x, double tolerance, Block hint) {
+        double leftX = getLeftDomainBorder();
+        double rightX = getRightDomainBorder();
+        Block block = x - leftX <= rightX - x ? head.next : head.prev;
+        if (hint != null && Math.abs(x - hint.xValues[0]) < Math.min(x - leftX, rightX - x)) {
+            block = hint;
+        }
+        while (block.next != head && x > block.lastX() + tolerance) {
+            block = block.next;
+        }
+        while (block.prev != head && x <= block.prev.lastX() + tolerance) {
+            block = block.prev;
+        }
+        return block;
+    }
+
+    // Двоичный поиск в блоке первой точки, для которой x <= x[offset] + 1e-10.
+    // Блок должен быть найден методом findBlock с той же погрешностью.
+    private static int findSegmentEndOffset(Block block, double x) {
+        int low = 0;
+        int high = block.count - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (x <= block.xValues[mid] + 1e-10) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Двоичный поиск в блоке первой точки с координатой X не меньше x (или count, если таких нет).
+    private static int lowerBound(Block block, double x) {
+        int low = 0;
+        int high = block.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (block.xValues[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Интерполирует значение функции на отрезке, заканчивающемся точкой offset блока block.
+    // Предыдущая точка может находиться в конце предыдущего блока.
+    private static double interpolate(Block block, int offset, double x) {
+        double x2 = block.xValues[offset];
+        double y2 = block.yValues[offset];
+        if (Math.abs(x - x2) < 1e-10) {
+            return y2;
+        }
+        double x1;
+        double y1;
+        if (offset > 0) {
+            x1 = block.xValues[offset - 1];
+            y1 = block.yValues[offset - 1];
+        } else {
+            Block prevBlock = block.prev;
+            x1 = prevBlock.lastX();
+            y1 = prevBlock.yValues[prevBlock.count - 1];
+        }
+        return y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+    }
+
+    // Проверяет, что позиция offset блока block не первая и не вторая точка функции.
+    private boolean isAfterSecondPoint(Block block, int offset) {
+        if (block != head.next) {
+            return block.prev != head.next || offset > 0 || block.prev.count > 1;
+        }
+        return offset > 1;
+    }
+
+    // Возвращает координату X точки, предшествующей позиции offset блока block.
+    private static double previousX(Block block, int offset) {
+        return offset > 0 ? block.xValues[offset - 1] : block.prev.lastX();
+    }
+
+    // Добавляет точку в конец списка, заполняя последний блок до конца.
+    private void appendPoint(double x, double y) {
+        Block tail = head.prev;
+        if (tail == head || tail.count == BLOCK_CAPACITY) {
+            tail = addBlockAfter(tail);
+        }
+        tail.xValues[tail.count] = x;
+        tail.yValues[tail.count] = y;
+        tail.count++;
+        size++;
+        modCount++;
+        resetCache();
+    }
+
+    // Вставляет пустой блок после блока block и возвращает его.
+    private Block addBlockAfter(Block block) {
+        Block newBlock = new Block(BLOCK_CAPACITY);
+        newBlock.prev = block;
+        newBlock.next = block.next;
+        block.next.prev = newBlock;
+        block.next = newBlock;
+        return newBlock;
+    }
+
+    // Переносит вторую половину точек блока в новый блок после него и возвращает новый блок.
+    private Block splitBlock(Block block) {
+        Block newBlock = addBlockAfter(block);
+        int half = block.count / 2;
+        newBlock.count = block.count - half;
+        System.arraycopy(block.xValues, half, newBlock.xValues, 0, newBlock.count);
+        System.arraycopy(block.yValues, half, newBlock.yValues, 0, newBlock.count);
+        block.count = half;
+        return newBlock;
+    }
+
+    // Переносит точки следующего блока в блок block и удаляет следующий блок.
+    private void mergeWithNext(Block block) {
+        Block nextBlock = block.next;
+        System.arraycopy(nextBlock.xValues, 0, block.xValues, block.count, nextBlock.count);
+        System.arraycopy(nextBlock.yValues, 0, block.yValues, block.count, nextBlock.count);
+        block.count += nextBlock.count;
+        removeBlock(nextBlock);
+    }
+
+    // Отсоединяет блок от списка.
+    private void removeBlock(Block block) {
+        block.prev.next = block.next;
+        block.next.prev = block.prev;
+        block.prev = null;
+        block.next = null;
+    }
+
+    // Удаляет все блоки перед заполнением списка заново.
+    private void clearBlocks() {
+        head.next = head;
+        head.prev = head;
+        size = 0;
+        modCount++;
+        resetCache();
+    }
+
+    // Сбрасывает кэш последнего блока на первый блок после структурного изменения списка.
+    private void resetCache() {
+        if (size > 0) {
+            lastAccessedBlock = head.next;
+            lastAccessedBlockStart = 0;
+        } else {
+            lastAccessedBlock = null;
+            lastAccessedBlockStart = -1;
+        }
+    }
+
+    // Метод для проверки корректности индекса.
+    // (0 <= index < size)
+    private void checkIndexBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new FunctionPointIndexOutOfBoundsException(
+                    String.format("Индекс точки должен быть не меньше нуля и меньше количества точек в функции. (На данный момент количество точек в функции - %d)", size)
+            );
+        }
+    }
+
+    // Метод для проверки корректности координаты X точки с индексом index при попытке её изменения.
+    // (новая координата X не должна выходить за границы координат X соседних точек)
+    private void checkPointOrder(int index, double pointX) throws InappropriateFunctionPointException {
+        if (index == 0) {
+            if (pointX >= getPointX(1) - 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x задаваемой точки должна лежать в интервале, определяемом значениями соседних точек. (При данном индексе [%d], интервал - (-inf, %.2f))", index, getPointX(index+1))
+                );
+            }
+        } else if (index == size-1) {
+            if (pointX <= getPointX(index-1) + 1e-10) {
+                throw new InappropriateFunctionPointException(
+                        String.format("Координата x задаваемой точки должна лежать в интервале, определяемом значениями соседних точек. (При данном индексе [%d], интервал - (%.2f, +inf))", index, getPointX(index-1))
+                );
+            }
+        } else if (pointX <= getPointX(index-1) + 1e-10 || pointX >= getPointX(index+1) - 1e-10) {
+            throw new InappropriateFunctionPointException(
+                    String.format("Координата x задаваемой точки должна лежать в интервале, определяемом значениями соседних точек. (При данном индексе [%d], интервал - (%.2f, %.2f))", index, getPointX(index-1), getPointX(index+1))
+            );
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package functions.basic;
 
+import functions.BatchKernels;
 import functions.Function;
 
 /**
@@ -15,6 +16,20 @@ public class Exp implements Function {
         return Math.exp(x);
     }
 
+    /**
+     * Вычисляет e^x для массива аргументов ядром {@link BatchKernels#exp(double[], double[])}:
+     * векторным на Vector API, если включены все векторные ядра (см. {@link BatchKernels}), иначе скалярным циклом.
+     * Погрешность не превышает 1 ulp (гарантия {@link Math#exp(double)}, которой следуют и векторные операции);
+     * в векторном ядре значение может отличаться от {@link #getFunctionValue(double)} в последнем бите.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        BatchKernels.exp(x, result);
+    }
+
     @Override
     public double getLeftDomainBorder() {
         return Double.NEGATIVE_INFINITY;
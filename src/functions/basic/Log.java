@@ -1,5 +1,6 @@
 package functions.basic;
 
+import functions.BatchKernels;
 import functions.Function;
 
 /**
@@ -10,6 +11,8 @@ import functions.Function;
  */
 public class Log implements Function {
     private final double base;
+    // Натуральный логарифм основания, вычисленный один раз.
+    private final double logBase;
 
     /**
      * Создаёт логарифмическую функцию с заданным основанием.
@@ -22,6 +25,7 @@ public class Log implements Function {
             throw new IllegalArgumentException("Основание логарифма не должно равняться нулю или единице");
         }
         this.base = base;
+        this.logBase = Math.log(base);
     }
 
     @Override
@@ -29,7 +33,24 @@ public class Log implements Function {
         if (x <= 0) {
             return Double.NaN;
         }
-        return Math.log(x) / Math.log(base);
+        return Math.log(x) / logBase;
+    }
+
+    /**
+     * Вычисляет log_base(x) для массива аргументов ядром {@link BatchKernels#log(double[], double[], double)}:
+     * векторным на Vector API, если векторные ядра включены (см. {@link BatchKernels}), иначе скалярным циклом. Погрешности логарифма
+     * для аргумента и для основания не превышают 1 ulp каждая (гарантия {@link Math#log(double)},
+     * которой следуют и векторные операции), деление добавляет не больше 0,5 ulp, поэтому итоговая
+     * погрешность не превышает 3 ulp относительно точного значения. В векторном ядре значение
+     * может отличаться от {@link #getFunctionValue(double)} в последнем бите, в том числе по-разному
+     * до и после JIT-компиляции.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        BatchKernels.log(x, result, logBase);
     }
 
     @Override
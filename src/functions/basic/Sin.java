@@ -1,5 +1,7 @@
 package functions.basic;
 
+import functions.BatchKernels;
+
 /**
  * Класс, представляющий синус функции.
  * Вычисляет значение sin(x) для заданного x.
@@ -9,4 +11,18 @@ public class Sin extends TrigonometricFunction {
     public double getFunctionValue(double x) {
         return Math.sin(x);
     }
+
+    /**
+     * Вычисляет sin(x) для массива аргументов ядром {@link BatchKernels#sin(double[], double[])}:
+     * векторным на Vector API, если включены все векторные ядра (см. {@link BatchKernels}), иначе скалярным циклом.
+     * Погрешность не превышает 1 ulp (гарантия {@link Math#sin(double)}, которой следуют и векторные операции);
+     * в векторном ядре значение может отличаться от {@link #getFunctionValue(double)} в последнем бите.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        BatchKernels.sin(x, result);
+    }
 }
@@ -1,5 +1,7 @@
 package functions.basic;
 
+import functions.BatchKernels;
+
 /**
  * Класс, представляющий тангенс функции.
  * Вычисляет значение tan(x) для заданного x.
@@ -9,4 +11,18 @@ public class Tan extends TrigonometricFunction {
     public double getFunctionValue(double x) {
         return Math.tan(x);
     }
+
+    /**
+     * Вычисляет tan(x) для массива аргументов ядром {@link BatchKernels#tan(double[], double[])}:
+     * векторным на Vector API, если включены все векторные ядра (см. {@link BatchKernels}), иначе скалярным циклом.
+     * Погрешность не превышает 1 ulp (гарантия {@link Math#tan(double)}, которой следуют и векторные операции);
+     * в векторном ядре значение может отличаться от {@link #getFunctionValue(double)} в последнем бите.
+     *
+     * @param x массив аргументов
+     * @param result массив для записи значений (длина не меньше длины {@code x})
+     */
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        BatchKernels.tan(x, result);
+    }
 }
@@ -33,6 +33,24 @@ public class Composition implements Function {
         return function1.getFunctionValue(arg);
     }
 
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        double[] args = new double[x.length];
+        function2.getFunctionValues(x, args);
+        boolean[] outOfDomain = new boolean[x.length];
+        double innerLeft = function2.getLeftDomainBorder();
+        double innerRight = function2.getRightDomainBorder();
+        double left = getLeftDomainBorder();
+        double right = getRightDomainBorder();
+        for (int i = 0; i < x.length; i++) {
+            outOfDomain[i] = x[i] < innerLeft || x[i] > innerRight || args[i] < left || args[i] > right;
+        }
+        function1.getFunctionValues(args, args);
+        for (int i = 0; i < x.length; i++) {
+            result[i] = outOfDomain[i] ? Double.NaN : args[i];
+        }
+    }
+
     @Override
     public double getLeftDomainBorder() {
         return function1.getLeftDomainBorder();
@@ -28,6 +28,19 @@ public class Mult implements Function {
         return function1.getFunctionValue(x) * function2.getFunctionValue(x);
     }
 
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        double[] values1 = new double[x.length];
+        double[] values2 = new double[x.length];
+        function1.getFunctionValues(x, values1);
+        function2.getFunctionValues(x, values2);
+        double left = getLeftDomainBorder();
+        double right = getRightDomainBorder();
+        for (int i = 0; i < x.length; i++) {
+            result[i] = (x[i] < left || x[i] > right) ? Double.NaN : values1[i] * values2[i];
+        }
+    }
+
     @Override
     public double getLeftDomainBorder() {
         return Math.max(function1.getLeftDomainBorder(), function2.getLeftDomainBorder());
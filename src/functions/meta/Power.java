@@ -29,6 +29,17 @@ public class Power implements Function {
         return Math.pow(function.getFunctionValue(x), power);
     }
 
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        double[] values = new double[x.length];
+        function.getFunctionValues(x, values);
+        double left = getLeftDomainBorder();
+        double right = getRightDomainBorder();
+        for (int i = 0; i < x.length; i++) {
+            result[i] = (x[i] < left || x[i] > right) ? Double.NaN : Math.pow(values[i], power);
+        }
+    }
+
     @Override
     public double getLeftDomainBorder() {
         return function.getLeftDomainBorder();
@@ -38,6 +38,20 @@ public class Scale implements Function {
         return function.getFunctionValue(x / scaleX) * scaleY;
     }
 
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        double[] values = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            values[i] = x[i] / scaleX;
+        }
+        function.getFunctionValues(values, values);
+        double left = getLeftDomainBorder();
+        double right = getRightDomainBorder();
+        for (int i = 0; i < x.length; i++) {
+            result[i] = (x[i] < left || x[i] > right) ? Double.NaN : values[i] * scaleY;
+        }
+    }
+
     @Override
     public double getLeftDomainBorder() {
         if (scaleX < 0) {
@@ -33,6 +33,20 @@ public class Shift implements Function {
         return function.getFunctionValue(x - shiftX) + shiftY;
     }
 
+    @Override
+    public void getFunctionValues(double[] x, double[] result) {
+        double[] values = new double[x.length];
+        for (int i = 0; i < x.length; i++) {
+            values[i] = x[i] - shiftX;
+        }
+        function.getFunctionValues(values, values);
+        double left = getLeftDomainBorder();
+        double right = getRightDomainBorder();
+        for (int i = 0; i < x.length; i++) {
+            result[i] = (x[i] < left || x[i] > right) ? Double.NaN : values[i] + shiftY;
+        }
+    }
+
     @Override
     public double getLeftDomainBorder() {
         return function.getLeftDomainBorder() - shiftX;